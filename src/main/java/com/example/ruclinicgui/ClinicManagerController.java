@@ -1,6 +1,7 @@
 /**
  * The ClinicManagerController class handles the GUI operations for a medical clinic management system.
- * It manages appointments, providers, technicians, and various scheduling operations.
+ * It reads the user's input and shows results, leaving appointments, providers, technicians and the
+ * scheduling rules to a ClinicService.
  * This controller implements the JavaFX Initializable interface to set up the initial GUI state.
  * @author Nithya Konduru, Dhyanashri Raman
  */
@@ -9,6 +10,7 @@ package com.example.ruclinicgui;
 
 import com.example.ruclinicgui.clinic.src.*;
 import com.example.ruclinicgui.clinic.src.util.*;
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -17,19 +19,13 @@ import javafx.scene.text.Text;
 import javafx.stage.FileChooser;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.util.ResourceBundle;
-import java.util.Scanner;
 
 
 public class ClinicManagerController implements Initializable {
-    List<Appointment> appts = new List <>();
-    List <Provider> providers = new List<>();
-    CircularLinkedList technicians = new CircularLinkedList();
-    Node pointer;
-    List<Appointment> imagingAppts = new List<>();
-    Sort sort = new Sort();
-    ListMethods methods = new ListMethods();
+    ClinicService service = new ClinicService();
 
     /**
      * Initializes the controller.
@@ -74,14 +70,11 @@ public class ClinicManagerController implements Initializable {
         if (appointmentDatePicker.getValue() == null || date.isEmpty()) {
             return null;
         }
-        String[] dateParts = appointmentDatePicker.getEditor().getText().split("/");
-        if (dateParts.length != 3) {
+        int packed = DateParser.parse(appointmentDatePicker.getEditor().getText());
+        if (packed == DateParser.ERROR) {
             return null;
         }
-        int month = Integer.parseInt(dateParts[0]);
-        int day = Integer.parseInt(dateParts[1]);
-        int year = Integer.parseInt(dateParts[2]);
-        Date selectedDate = new Date(year, month, day);
+        Date selectedDate = DateParser.toDate(packed);
         if (!selectedDate.isValidDate()) {
             return null;
         }
@@ -102,14 +95,11 @@ public class ClinicManagerController implements Initializable {
         if (date == null || date.isEmpty()) {
             return null;
         }
-        String[] dateParts = appointmentDatePickerR.getEditor().getText().split("/");
-        if (dateParts.length != 3) {
+        int packed = DateParser.parse(appointmentDatePickerR.getEditor().getText());
+        if (packed == DateParser.ERROR) {
             return null;
         }
-        int month = Integer.parseInt(dateParts[0]);
-        int day = Integer.parseInt(dateParts[1]);
-        int year = Integer.parseInt(dateParts[2]);
-        Date selectedDate = new Date(year, month, day);
+        Date selectedDate = DateParser.toDate(packed);
         if (!selectedDate.isValidDate()) {
             return null;
         }
@@ -123,21 +113,9 @@ public class ClinicManagerController implements Initializable {
      * @return true if date is valid according to all rules, false otherwise
      */
     public boolean checkApptDate(String input) {
-        Date date = stringToDate(input);
-        if (!date.isValidDate()) {
-            showAlert("Invalid Date", "Appointment date: " + input + " is not a valid calendar date.", Alert.AlertType.ERROR);
-            return false;
-        }
-        else if (date.isBeforeToday() || date.isToday()) {
-            showAlert("Invalid Appointment Date", "Appointment date: " + input + " is today or a date before today.", Alert.AlertType.ERROR);
-            return false;
-        }
-        else if (date.onWeekend()) {
-            showAlert("Weekend Appointment", "Appointment date: " + input + " is Saturday or Sunday.", Alert.AlertType.ERROR);
-            return false;
-        }
-        else if (!date.isWithinSixMonths()) {
-            showAlert("Out of Range", "Appointment date: " + input + " is not within six months.", Alert.AlertType.ERROR);
+        ClinicService.Result invalid = ClinicService.checkApptDate(input, stringToDate(input));
+        if (invalid != null) {
+            showAlert(invalid.title(), invalid.message(), Alert.AlertType.ERROR);
             return false;
         }
         return true;
@@ -169,6 +147,14 @@ public class ClinicManagerController implements Initializable {
     @FXML
     private ToggleGroup chooseOne;
 
+    /**
+     * Closes the clinic service when the application stops, so the last changes reach the booking journal.
+     * @throws IOException if the last changes could not be written
+     */
+    public void close() throws IOException {
+        service.close();
+    }
+
     /**
      * Initializes the toggle buttons by setting their toggle group.
      * This allows for a mutually exclusive selection between option1 and option2.
@@ -202,8 +188,8 @@ public class ClinicManagerController implements Initializable {
         if (selectedDateText == null || selectedDateText.isEmpty()) {
             return null;
         }
-        String[] dateParts = selectedDateText.split("/");
-        if (dateParts.length != 3) {
+        int packed = DateParser.parse(selectedDateText);
+        if (packed == DateParser.ERROR) {
             return null;
         }
         String firstName = fname.getText();
@@ -211,11 +197,8 @@ public class ClinicManagerController implements Initializable {
         if (firstName == null || firstName.isEmpty() || lastName == null || lastName.isEmpty()) {
             return null;
         }
-        int month = Integer.parseInt(dateParts[0]);
-        int day = Integer.parseInt(dateParts[1]);
-        int year = Integer.parseInt(dateParts[2]);
-        Date date = new Date(year, month, day);
-        Profile patientProfile = new Profile(fname.getText().trim(), lname.getText().trim(), date);
+        Date date = DateParser.toDate(packed);
+        Profile patientProfile = Profile.of(fname.getText().trim(), lname.getText().trim(), date);
         return new Person(patientProfile);
     }
 
@@ -232,8 +215,8 @@ public class ClinicManagerController implements Initializable {
         if (selectedDateText == null || selectedDateText.isEmpty()) {
             return null;
         }
-        String[] dateParts = selectedDateText.split("/");
-        if (dateParts.length != 3) {
+        int packed = DateParser.parse(selectedDateText);
+        if (packed == DateParser.ERROR) {
             return null;
         }
         String firstName = fname.getText();
@@ -241,14 +224,11 @@ public class ClinicManagerController implements Initializable {
         if (firstName == null || firstName.isEmpty() || lastName == null || lastName.isEmpty()) {
             return null;
         }
-        int month = Integer.parseInt(dateParts[0]);
-        int day = Integer.parseInt(dateParts[1]);
-        int year = Integer.parseInt(dateParts[2]);
-        Date date = new Date(year, month, day);
+        Date date = DateParser.toDate(packed);
         if (!checkDOB(date)) {
             return null;
         }
-        Profile patientProfile = new Profile(fnameR.getText(), lnameR.getText(), date);
+        Profile patientProfile = Profile.of(fnameR.getText(), lnameR.getText(), date);
         return new Person(patientProfile);
     }
 
@@ -262,9 +242,7 @@ public class ClinicManagerController implements Initializable {
         if (slotString == null || slotString.isEmpty()) {
             return null;
         }
-        Timeslot slot = new Timeslot();
-        slot.setTimeslot(slotString);
-        return slot;
+        return Timeslot.of(slotString);
     }
 
     /**
@@ -277,9 +255,7 @@ public class ClinicManagerController implements Initializable {
         if (slotString == null || slotString.isEmpty()) {
             return null;
         }
-        Timeslot slot = new Timeslot();
-        slot.setTimeslot(slotString);
-        return slot;
+        return Timeslot.of(slotString);
     }
 
     /**
@@ -292,9 +268,7 @@ public class ClinicManagerController implements Initializable {
         if (slotString == null || slotString.isEmpty()) {
             return null;
         }
-        Timeslot slot = new Timeslot();
-        slot.setTimeslot(slotString);
-        return slot;
+        return Timeslot.of(slotString);
     }
 
     /**
@@ -304,13 +278,7 @@ public class ClinicManagerController implements Initializable {
     @FXML
     private Provider getProvider() {
         String selectedProvider = chooseProvider.getValue();
-        Provider output = null;
-        for (Provider provider : providers) {
-            if (provider.toString().equals(selectedProvider)) {
-                output = provider;
-            }
-        }
-        return output;
+        return selectedProvider == null ? null : service.provider(selectedProvider);
     }
 
     /**
@@ -319,54 +287,16 @@ public class ClinicManagerController implements Initializable {
      * @return Radiology enum value, or null if invalid input
      */
     public Radiology setRadioRoom(String input) {
-        String lowerCase = input.toLowerCase();
-        if(lowerCase.equals("xray")) {
-            return Radiology.XRAY;
-        }
-        else if(lowerCase.equals("catscan")) {
-            return Radiology.CATSCAN;
-        }
-        else if(lowerCase.equals("ultrasound")) {
-            return Radiology.ULTRASOUND;
-        }
-        return null;
+        return ClinicService.room(input);
     }
 
     /**
-     * Finds an available technician for an imaging appointment.
-     * Checks scheduling conflicts and room availability.
-     * @param imaging list of existing imaging appointments
-     * @param date requested appointment date
-     * @param timeslot requested timeslot
-     * @param room requested radiology room
-     * @return available Technician object, or null if none available
+     * Returns the amount currently due from a patient.
+     * @param patient the patient's profile
+     * @return the total charge of the patient's booked appointments
      */
-    public Technician techAvailable(List<Appointment> imaging, Date date, Timeslot timeslot, Radiology room) {
-        boolean isFirstFree = true;
-        for(int i = 0; i<appts.size(); i++){
-            if(imaging.size() != 0){
-                isFirstFree = false;
-            }
-        }
-        if(isFirstFree){
-            Technician firstTech = pointer.getTechnician();
-            return firstTech;
-        }
-        Node start = pointer;
-        do {
-            if (pointer!=null) {
-                Technician currentTech = pointer.getTechnician();
-                int techAvailable = methods.identifyImagingAppt(imaging, currentTech, date, timeslot);
-                boolean roomFree = methods.isRoomFree(imaging, currentTech, date, timeslot, room);
-                if (techAvailable == -1 && roomFree) {
-                    Technician selectedTech = currentTech;
-                    pointer = pointer.getNext();
-                    return selectedTech;
-                }
-                pointer = pointer.getNext();
-            }
-        } while (pointer != start);
-        return null;
+    public Money amountDue(Profile patient) {
+        return service.amountDue(patient);
     }
 
     /**
@@ -375,70 +305,26 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     private void scheduleImaging() {
+        Date date = getDateSelected();
+        Timeslot slot = getTimeslot();
+        Person patient = getPatient();
+        String imagingType = chooseProvider.getValue();
         StringBuilder missingFields = new StringBuilder();
-        if (getDateSelected() == null) {
+        if (date == null) {
             missingFields.append("• Appointment Date\n");
         }
-        if (getTimeslot() == null) {
+        if (slot == null) {
             missingFields.append("• Timeslot\n");
         }
-        if (getPatient() == null) {
+        if (patient == null) {
             missingFields.append("• Patient Details\n");
         }
-        if (chooseProvider.getValue() == null) missingFields.append("• Imaging Type\n");
+        if (imagingType == null) missingFields.append("• Imaging Type\n");
         if (!missingFields.isEmpty()) {
-            showAlertForSchedule("Missing Information", "Please fill out the following fields:\n" + missingFields.toString());
-        }
-        Date date = getDateSelected();
-        Timeslot slot = getTimeslot();
-        Person patient = getPatient();
-        String imagingType = chooseProvider.getValue();
-        boolean apptDateValid = true;
-        boolean dobValid = true;
-        if (date != null) {
-            apptDateValid = checkApptDate(date.toString());
-        }
-        if (patient != null) {
-            dobValid = checkDOB(patient.getProfile().getDob());
-        }
-        if (!apptDateValid || !dobValid) {
-            return;
-        }
-        Radiology room = null;
-        if(imagingType != null){
-            room = setRadioRoom(imagingType);
-        }
-        if (room == null) {
-            showAlertForSchedule("Invalid Imaging Type", imagingType + " is not a valid imaging service.");
+            showMissingFields(missingFields);
             return;
         }
-        int index = -3;
-        if(patient != null && slot != null && date != null){
-            index = methods.identifyImagingAppt2(imagingAppts, patient.getProfile(), date, slot);
-        }
-        if (patient != null && index != -1 && date != null) {
-            showAlertForSchedule("Duplicate Appointment", patient.getProfile().toString() + " has an existing appointment at the same time.");
-            return;
-        }
-        Technician technician = null;
-        if(room != null && slot != null && date != null){
-            technician = techAvailable(imagingAppts, date, slot, room);
-        }
-        if (technician == null && slot != null && date != null) {
-            showAlertForSchedule("No Technician Available", "No available technician for " + imagingType + " at " + slot.toString());
-            return;
-        }
-        if(!missingFields.isEmpty() && !loadProvidersButton.isDisabled())
-        {
-            showAlert("Load Provider's Error", "The providers have not been loaded.", Alert.AlertType.WARNING);
-        }
-        if(patient != null && room != null && slot != null && date != null){
-            Imaging newImageAppt = new Imaging(date, slot, patient, technician, room);
-            appts.add(newImageAppt);
-            imagingAppts.add(newImageAppt);
-            outputArea.appendText(date.toString() + " " + slot.toString() + " " + patient.getProfile().toString()
-                    + " with " + technician.toString() + " in " + room.toString() + " booked.\n");
-        }
+        showResult(service.scheduleImaging(date, slot, patient, imagingType), outputArea);
     }
 
     /**
@@ -447,61 +333,54 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     private void schedule() {
+        Date date = getDateSelected();
+        Timeslot slot = getTimeslot();
+        Person patient = getPatient();
+        Provider provider = getProvider();
         StringBuilder missingFields = new StringBuilder();
-        if (getDateSelected() == null) {
+        if (date == null) {
             missingFields.append("• Appointment Date\n");
         }
-        if (getTimeslot() == null) {
+        if (slot == null) {
             missingFields.append("• Timeslot\n");
         }
-        if (getPatient() == null) {
+        if (patient == null) {
             missingFields.append("• Patient Details\n");
         }
-        if (getProvider() == null) {
+        if (provider == null) {
             missingFields.append("• Provider\n");
         }
         if (!missingFields.isEmpty()) {
-            showAlertForSchedule("Missing Information", "Please fill out the following fields:\n" + missingFields.toString());
-        }
-        String selectedDateText = appointmentDatePicker.getEditor().getText();
-        String formattedDate;
-        if (selectedDateText != null && !selectedDateText.isEmpty()) {
-            formattedDate = selectedDateText;
-        } else {
+            showMissingFields(missingFields);
             return;
         }
-        Date date = getDateSelected();
-        Timeslot slot = getTimeslot();
-        Person patient = getPatient();
-        Provider provider = getProvider();
-        boolean apptDateValid = true;
-        boolean dobValid = true;
-        if (formattedDate !=null) {
-            apptDateValid = checkApptDate(formattedDate);
-        }
-        if (patient != null) {
-            dobValid = checkDOB(patient.getProfile().getDob());
-        }
-        if (patient!=null && provider instanceof Doctor) {
-            Doctor doctor = (Doctor) provider;
-            if (methods.identifyAppointment(appts, patient.getProfile(), date, slot) != -1) {
-                showAlertForSchedule("Duplicate Appointment", patient.getProfile().toString() + " has an existing appointment at the same time.");
-                return;
-            }
-            if (methods.timeslotTaken(appts, doctor, slot, date) != -1 ) {
-                showAlertForSchedule("Timeslot Unavailable", doctor.toString() + " is not available at " + slot.toString() + ".");
-                return;
-            }
-        }
-        if(!missingFields.isEmpty() && !loadProvidersButton.isDisabled())
-        {
+        showResult(service.schedule(date, slot, patient, provider), outputArea);
+    }
+
+    /**
+     * Shows which fields are missing, and warns if the providers have not been loaded yet.
+     * @param missingFields the missing fields, one per line
+     */
+    private void showMissingFields(StringBuilder missingFields) {
+        showAlertForSchedule("Missing Information", "Please fill out the following fields:\n" + missingFields.toString());
+        if (!loadProvidersButton.isDisabled()) {
             showAlert("Load Provider's Error", "The providers have not been loaded.", Alert.AlertType.WARNING);
         }
-        if (missingFields.isEmpty() && apptDateValid && slot != null && slot.setTimeslot(slot.toString())
-                && patient != null && dobValid && provider instanceof Doctor) {
-            Appointment newAppt = new Appointment(date, slot, patient, provider);
-            appts.add(newAppt);
-            outputArea.appendText(formattedDate + " " + slot.toString() + " " + patient.getProfile().toString() + " " + provider.toString() + " booked.\n");
+    }
+
+    /**
+     * Shows the result of a scheduling operation: a booking is appended to the output area,
+     * an invalid input is shown as an error and a conflict as a notice.
+     * @param result the result returned by the clinic service
+     * @param output the output area for a booking
+     */
+    private void showResult(ClinicService.Result result, TextArea output) {
+        if (result.isDone()) {
+            output.appendText(result.message() + "\n");
+        } else if (result.status() == ClinicService.Result.Status.INVALID) {
+            showAlert(result.title(), result.message(), Alert.AlertType.ERROR);
+        } else {
+            showAlertForSchedule(result.title(), result.message());
         }
     }
 
@@ -544,19 +423,8 @@ public class ClinicManagerController implements Initializable {
             showAlertForSchedule("Missing Information", "Please fill out the following fields:\n" + missingFields.toString());
             return;
         }
-        Date date = getDateSelected();
-        Timeslot slot = getTimeslot();
-        Person patient = getPatient();
-        int inptApp = methods.identifyAppointment(appts, patient.getProfile(), date, slot);
-        if (inptApp!=-1)
-        {
-            Appointment currApp = appts.get(inptApp);
-            Appointment appointment = new Appointment(currApp.getDate(), currApp.getTimeslot(), currApp.getProfile(), currApp.getProvider());
-            appts.remove(appointment);
-            outputArea.appendText(date.toString() + " " + slot.toString() + " " + patient.getProfile().toString() + " - appointment has been canceled.\n");
-            return;
-        }
-        outputArea.appendText(date.toString() + " " + slot.toString() + " " + patient.getProfile().toString() + " - appointment does not exist.\n");
+        ClinicService.Result result = service.cancel(getDateSelected(), getTimeslot(), getPatient());
+        outputArea.appendText(result.message() + "\n");
     }
 
     /**
@@ -604,11 +472,10 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void reschedule() {
-        if(appts.size() == 0) {
+        if(service.size() == 0) {
             showAlert("Invalid Reschedule", "No appointments scheduled.", Alert.AlertType.WARNING);
             return;
         }
-        boolean hasErrors = false;
         StringBuilder missingFields = new StringBuilder();
         Date date = getDateSelectedR();
         Timeslot oldSlot = getOldTimeslot();
@@ -619,60 +486,24 @@ public class ClinicManagerController implements Initializable {
         }
         if (oldSlot == null) {
             missingFields.append("• Old Timeslot\n");
-            hasErrors = true;
         }
         if (newSlot == null) {
             missingFields.append("• New Timeslot\n");
-            hasErrors = true;
         }
         if (patient == null) {
             missingFields.append("• Patient Details\n");
         }
         if (!missingFields.isEmpty()) {
             showAlertForSchedule("Missing Information", "Please fill out the following fields:\n" + missingFields.toString());
-        }
-        String selectedDateText = appointmentDatePickerR.getEditor().getText();
-        String formattedDate;
-        if (selectedDateText != null && !selectedDateText.isEmpty()) {
-            formattedDate = selectedDateText;
-        } else {
-            return;
-        }
-        checkApptDate(formattedDate);
-        if (patient != null) {
-            checkDOB(patient.getProfile().getDob());
-        }
-        int apptIndex = -3;
-        if(patient != null && !hasErrors) {
-            apptIndex = methods.identifyAppointment(appts, patient.getProfile(), date, oldSlot);
-        }
-        if (apptIndex == -1 && patient != null && !hasErrors) {
-            outputAreaR.appendText(formattedDate + " " + oldSlot.toString() + " " + patient.getProfile().getFirstName() + " " + patient.getProfile().getLastName() + " " + patient.getProfile().getDob().toString() + " does not exist.");
-            return;
-        }
-        int apptIndex2 = -3;
-        if(patient != null && !hasErrors){
-            apptIndex2 = methods.identifyAppointment(appts, patient.getProfile(), date, newSlot);
-        }
-        if (apptIndex2 !=-1 && patient != null && !hasErrors) {
-            Appointment appointment = appts.get(apptIndex2);
-            outputAreaR.appendText("\n" + patient.getProfile().toString() + " has an existing appointment at " + appointment.getDate().toString() + " " + newSlot.toString() + "\n");
-            return;
-        }
-        Appointment appointment = null;
-        Provider provider = null;
-        if(patient != null && !hasErrors){
-             appointment = appts.get(apptIndex);
-             provider = (Provider) appointment.getProvider();
-        }
-        if (!hasErrors && methods.timeslotTaken(appts, provider, newSlot, date) != -1) {
-            outputAreaR.appendText("\n" + provider.toString() + " is not available at " + newTimeslot.getValue() + "\n");
             return;
         }
-        if(patient != null && !hasErrors){
-            Appointment newAppt = appts.get(apptIndex);
-            newAppt.setTimeslot(newSlot);
-            outputAreaR.appendText("\nRescheduled to " + formattedDate + " " + newSlot.toString() + " " + patient.getProfile().getFirstName() + " " + patient.getProfile().getLastName() + " " + patient.getProfile().getDob().toString() + " " + newAppt.getProvider().toString() + "\n");
+        checkApptDate(appointmentDatePickerR.getEditor().getText());
+        checkDOB(patient.getProfile().getDob());
+        ClinicService.Result result = service.reschedule(date, oldSlot, newSlot, patient);
+        if (result.status() == ClinicService.Result.Status.INVALID) {
+            showAlert(result.title(), result.message(), Alert.AlertType.ERROR);
+        } else {
+            outputAreaR.appendText("\n" + result.message() + "\n");
         }
     }
 
@@ -696,15 +527,12 @@ public class ClinicManagerController implements Initializable {
      * @return true if date is valid, false otherwise
      */
     public boolean checkDOB(Date dob) {
-        if (!dob.isValidDate()) {
-            showAlertDOB("Invalid Date", "Patient DOB " + dob.toString() + " is not a valid calendar date.");
-            return false;
-        } else if (dob.isToday() || dob.isFutureDate()) {
-            showAlertDOB("Invalid Date", "Patient DOB " + dob.toString() + " is today or a future date.");
+        ClinicService.Result invalid = ClinicService.checkDOB(dob);
+        if (invalid != null) {
+            showAlertDOB(invalid.title(), invalid.message());
             return false;
-        } else {
-            return true;
         }
+        return true;
     }
 
     /**
@@ -763,11 +591,7 @@ public class ClinicManagerController implements Initializable {
         {
             providerText.setText("Provider: ");
             chooseProvider.getItems().clear();
-            for(Provider provider : providers){
-                if(provider instanceof Doctor){
-                    chooseProvider.getItems().add(provider.toString());
-                }
-            }
+            chooseProvider.getItems().addAll(service.doctorListings());
         }
         else if(option2.isSelected()) {
             providerText.setText("Room: ");
@@ -785,7 +609,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPAClick() {
-        printOutput.appendText(methods.printByAppointment(appts));
+        printOutput.appendText(service.printByAppointment());
     }
 
     /**
@@ -795,12 +619,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPCClick() {
-        if(appts.size() == 0){
-            printOutput.appendText("\nThere are no appointments in the system." + "\n");
-        }
-        else{
-            printOutput.appendText(methods.printProviderCharges(appts, technicians));
-        }
+        printOutput.appendText(service.printProviderCharges());
     }
 
     /**
@@ -809,7 +628,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPIClick() {
-        printOutput.appendText(methods.printImagingAppointments(appts));
+        printOutput.appendText(service.printImagingAppointments());
     }
 
     /**
@@ -818,7 +637,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPLClick() {
-        printOutput.appendText(methods.printByLocation(appts));
+        printOutput.appendText(service.printByLocation());
     }
 
     /**
@@ -827,7 +646,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPOClick() {
-        printOutput.appendText(methods.printOfficeAppointments(appts));
+        printOutput.appendText(service.printOfficeAppointments());
     }
 
     /**
@@ -836,7 +655,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPPClick() {
-        printOutput.appendText(methods.printByPatient(appts));
+        printOutput.appendText(service.printByPatient());
     }
 
     /**
@@ -845,7 +664,7 @@ public class ClinicManagerController implements Initializable {
      */
     @FXML
     protected void onPSClick() {
-        printOutput.appendText(methods.printAllCharge(appts));
+        printOutput.appendText(service.printAllCharges());
     }
 
     /**
@@ -951,39 +770,25 @@ public class ClinicManagerController implements Initializable {
     private TableColumn<Location, String> zipColumn;
 
     /**
-     * Loads provider data from a text file.
-     * Parses file and creates appropriate Provider objects.
+     * Loads provider data from a text file into the clinic service.
+     * The service restores the appointment book from the snapshot and the booking journal kept next to the file;
+     * problems with either are shown as warnings and the providers still load.
      * @param file the file containing provider data
      */
     public void loadProviders(File file) {
         if (!file.exists()) {
             return;
         }
-        try (Scanner scanner = new Scanner(file)) {
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                String[] splittedLine = line.split("  ");
-                if (splittedLine[0].equals("D")) {
-                    Profile profile = new Profile(splittedLine[1], splittedLine[2], stringToDate(splittedLine[3]));
-                    Specialty specialty = setSpecialty(splittedLine[5]);
-                    Doctor doctor = new Doctor(profile, setLocation(splittedLine[4]), specialty, splittedLine[6]);
-                    providers.add(doctor);
-                } else if (splittedLine[0].equals("T")) {
-                    Profile profile = new Profile(splittedLine[1], splittedLine[2], stringToDate(splittedLine[3]));
-                    Location location = setLocation(splittedLine[4]);
-                    int rate = Integer.parseInt(splittedLine[5]);
-                    Technician technician = new Technician(profile, location, rate);
-                    providers.add(technician);
-                    technicians.addTechnician(technician);
-                }
-            }
-            pointer = technicians.getHead();
-            for (Provider provider : providers) {
-                if (getTypeOfAppointment(chooseOne).equals("D")) {
-                    if (provider instanceof Doctor) {
-                        chooseProvider.getItems().add(provider.toString());
-                    }
+        try {
+            service.open(file.toPath(), (title, message) -> {
+                if (Platform.isFxApplicationThread()) {
+                    showAlert(title, message, Alert.AlertType.WARNING);
+                } else {
+                    Platform.runLater(() -> showAlert(title, message, Alert.AlertType.WARNING));
                 }
+            });
+            if (getTypeOfAppointment(chooseOne).equals("D")) {
+                chooseProvider.getItems().addAll(service.doctorListings());
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -996,11 +801,7 @@ public class ClinicManagerController implements Initializable {
      * Displays both doctors and technicians.
      */
     public void printProviders() {
-        sort.sortByProvider(providers);
-        for (int i = 0; i<providers.size(); i++) {
-            outputArea.appendText(providers.get(i).toString() + "\n");
-        }
-        outputArea.appendText(technicians.display() + "\n");
+        outputArea.appendText(service.printProviders());
     }
 
     /**
@@ -1009,20 +810,11 @@ public class ClinicManagerController implements Initializable {
      * @return Date object representing the input string
      */
     public Date stringToDate(String date) {
-        String[] dateString = date.split("/");
-        if (dateString.length != 3) {
+        int packed = DateParser.parse(date);
+        if (packed == DateParser.ERROR) {
             throw new IllegalArgumentException("Invalid date format. Expected format: MM/DD/YYYY");
         }
-        int month = Integer.parseInt(dateString[0]);
-        int day = Integer.parseInt(dateString[1]);
-        int year = Integer.parseInt(dateString[2]);
-        Date dateObject = new Date(year, month, day);
-        if (dateObject == null) {
-            return null;
-        }
-        else {
-            return dateObject;
-        }
+        return DateParser.toDate(packed);
     }
 
     /**
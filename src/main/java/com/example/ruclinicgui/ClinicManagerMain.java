@@ -9,16 +9,26 @@ import javafx.stage.Stage;
 import javafx.scene.control.Label;
 
 public class ClinicManagerMain extends Application {
+    private ClinicManagerController controller;
+
     @Override
     public void start(Stage primaryStage) throws Exception {
         FXMLLoader loader = new FXMLLoader(getClass().getResource("clinic-view.fxml"));
         Parent root = loader.load();
+        controller = loader.getController();
         Scene scene = new Scene(root);
         primaryStage.setTitle("Appointment Scheduler");
         primaryStage.setScene(scene);
         primaryStage.show();
     }
 
+    @Override
+    public void stop() throws Exception {
+        if (controller != null) {
+            controller.close();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -12,6 +12,7 @@ public class Appointment implements Comparable<Appointment> {
         protected Timeslot timeslot;
         protected Person patient;
         protected Person provider;
+        private int hash;
 
         /**
          * Constructor to create a new appointment with a specified date, timeslot, patient, and provider.
@@ -70,27 +71,15 @@ public class Appointment implements Comparable<Appointment> {
          * @return     An integer representing the comparison result based on patient information.
          */
         public int compareByPatient(Appointment appt) {
-                String firstName1 = this.patient.getProfile().getFirstName().trim();
-                String lastName1 = this.patient.getProfile().getLastName().trim();
-                String firstName2 = appt.patient.getProfile().getFirstName().trim();
-                String lastName2 = appt.patient.getProfile().getLastName().trim();
-                int lastNameComparison = lastName1.compareToIgnoreCase(lastName2);
-                if (lastNameComparison == 0) {
-                        int firstNameComparison = firstName1.compareToIgnoreCase(firstName2);
-                        if (firstNameComparison == 0) {
-                                int dobComparison = this.patient.getProfile().getDob().compareTo(appt.patient.getProfile().getDob());
-                                if (dobComparison == 0) {
-                                        int dateComparison = this.date.compareTo(appt.date);
-                                        if (dateComparison == 0) {
-                                                return this.timeslot.compareTo(appt.timeslot);
-                                        }
-                                        return dateComparison;
-                                }
-                                return dobComparison;
-                        }
-                        return firstNameComparison;
+                int profileComparison = this.patient.getProfile().compareToIgnoreCase(appt.patient.getProfile());
+                if (profileComparison != 0) {
+                        return profileComparison;
                 }
-                return lastNameComparison;
+                int dateComparison = this.date.compareTo(appt.date);
+                if (dateComparison != 0) {
+                        return dateComparison;
+                }
+                return this.timeslot.compareTo(appt.timeslot);
         }
 
         /**
@@ -131,6 +120,23 @@ public class Appointment implements Comparable<Appointment> {
                 return false;
         }
 
+        /**
+         * Returns a hash code consistent with equals, cached until the timeslot changes.
+         *
+         * @return The hash code of the appointment.
+         */
+        @Override
+        public int hashCode() {
+                if (this.hash == 0) {
+                        int h = this.date != null ? this.date.hashCode() : 0;
+                        h = 31 * h + (this.timeslot != null ? this.timeslot.hashCode() : 0);
+                        h = 31 * h + (this.patient != null ? this.patient.hashCode() : 0);
+                        h = 31 * h + (this.provider != null ? this.provider.hashCode() : 0);
+                        this.hash = h;
+                }
+                return this.hash;
+        }
+
         /**
          * Returns a string representation of the appointment details.
          *
@@ -143,11 +149,14 @@ public class Appointment implements Comparable<Appointment> {
 
         /**
          * Sets the timeslot for this appointment.
+         * An appointment held in a hash-indexed list or key index must be removed
+         * from it before its timeslot changes, since the timeslot is part of its hash.
          *
          * @param timeslot The timeslot to set.
          */
         public void setTimeslot(Timeslot timeslot) {
                 this.timeslot = timeslot;
+                this.hash = 0;
         }
 
         /**
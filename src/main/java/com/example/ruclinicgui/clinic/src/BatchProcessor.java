@@ -0,0 +1,281 @@
+package com.example.ruclinicgui.clinic.src;
+
+import com.example.ruclinicgui.clinic.src.util.Date;
+import com.example.ruclinicgui.clinic.src.util.DateParser;
+import com.example.ruclinicgui.clinic.src.util.RosterLoader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * The BatchProcessor class runs a file of scheduling commands without the GUI, applying the same checks
+ * and giving the same messages as the Schedule, Cancel and Reschedule tabs.
+ * Each line holds one command, its fields separated by commas, in the formats the GUI collects:
+ * <pre>
+ * S,appointment date,timeslot,first name,last name,date of birth,doctor
+ * T,appointment date,timeslot,first name,last name,date of birth,imaging service
+ * C,appointment date,timeslot,first name,last name,date of birth
+ * R,appointment date,old timeslot,first name,last name,date of birth,new timeslot
+ * </pre>
+ * Dates are written M/D/YYYY and timeslots like 9:00 AM; a doctor is given by NPI or by the line the provider list shows.
+ * Blank lines and lines starting with # are skipped.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class BatchProcessor {
+    private final ClinicService service;
+    private int booked;
+    private int canceled;
+    private int rescheduled;
+    private int rejected;
+
+    /**
+     * Constructor: Initializes a batch processor that runs commands against a clinic service.
+     *
+     * @param service The clinic service.
+     */
+    public BatchProcessor(ClinicService service) {
+        this.service = service;
+    }
+
+    /**
+     * Method: Runs a command file against a provider file and prints the result of every command,
+     * followed by a summary with the throughput.
+     *
+     * @param args The provider file, the command file, and optionally the file to write the results to.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BatchProcessor <providers file> <commands file> [results file]");
+            System.exit(1);
+        }
+        ClinicService service = new ClinicService();
+        service.load(RosterLoader.load(Paths.get(args[0])));
+        BatchProcessor processor = new BatchProcessor(service);
+        Path commands = Paths.get(args[1]);
+        try (BufferedReader in = Files.newBufferedReader(commands, StandardCharsets.UTF_8);
+             Writer out = args.length == 3
+                     ? Files.newBufferedWriter(Paths.get(args[2]), StandardCharsets.UTF_8)
+                     : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
+            processor.run(in, out);
+        }
+    }
+
+    /**
+     * Method: Runs every command read from a reader and writes one result line per command, then a summary.
+     *
+     * @param in  The commands.
+     * @param out Receives the results.
+     * @throws IOException if the commands cannot be read or the results written.
+     */
+    public void run(BufferedReader in, Writer out) throws IOException {
+        long start = System.nanoTime();
+        int lineNumber = 0;
+        int commands = 0;
+        StringBuilder result = new StringBuilder();
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            commands++;
+            result.setLength(0);
+            result.append(lineNumber).append(": ").append(execute(line)).append(System.lineSeparator());
+            out.append(result);
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        out.append(commands + " commands in " + elapsed / 1_000_000 + " ms (" + commands * 1_000_000_000L / elapsed
+                + " commands/s): " + booked + " booked, " + canceled + " canceled, " + rescheduled + " rescheduled, "
+                + rejected + " rejected." + System.lineSeparator());
+        out.flush();
+    }
+
+    /**
+     * Method: Runs one command.
+     *
+     * @param line The command line.
+     * @return The message the GUI would show for the command.
+     */
+    public String execute(String line) {
+        String[] fields = line.split(",", -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        switch (fields[0].toUpperCase()) {
+            case "S":
+                return fields.length >= 7 ? schedule(fields) : reject("S needs 7 fields.");
+            case "T":
+                return fields.length == 7 ? scheduleImaging(fields) : reject("T needs 7 fields.");
+            case "C":
+                return fields.length == 6 ? cancel(fields) : reject("C needs 6 fields.");
+            case "R":
+                return fields.length == 7 ? reschedule(fields) : reject("R needs 7 fields.");
+            default:
+                return reject("Invalid command " + fields[0] + ".");
+        }
+    }
+
+    /**
+     * Method: Books an office visit with a doctor, as the Schedule tab does for an office appointment.
+     *
+     * @param fields The command fields.
+     * @return The result message.
+     */
+    private String schedule(String[] fields) {
+        Date date = parseDate(fields[1]);
+        Timeslot slot = Timeslot.of(fields[2]);
+        Person patient = parsePatient(fields[3], fields[4], fields[5]);
+        Provider provider = service.provider(String.join(",", Arrays.copyOfRange(fields, 6, fields.length)));
+        String missing = missing(date, "Appointment Date", slot, "Timeslot", patient, "Patient Details",
+                provider, "Provider");
+        if (missing != null) {
+            return reject(missing);
+        }
+        ClinicService.Result result = service.schedule(date, slot, patient, provider);
+        if (result.isDone()) {
+            booked++;
+        }
+        return message(result);
+    }
+
+    /**
+     * Method: Books an imaging service with the next free technician in the rotation,
+     * as the Schedule tab does for an imaging appointment.
+     *
+     * @param fields The command fields.
+     * @return The result message.
+     */
+    private String scheduleImaging(String[] fields) {
+        Date date = parseDate(fields[1]);
+        Timeslot slot = Timeslot.of(fields[2]);
+        Person patient = parsePatient(fields[3], fields[4], fields[5]);
+        String imagingType = fields[6].isEmpty() ? null : fields[6];
+        String missing = missing(date, "Appointment Date", slot, "Timeslot", patient, "Patient Details",
+                imagingType, "Imaging Type");
+        if (missing != null) {
+            return reject(missing);
+        }
+        ClinicService.Result result = service.scheduleImaging(date, slot, patient, imagingType);
+        if (result.isDone()) {
+            booked++;
+        }
+        return message(result);
+    }
+
+    /**
+     * Method: Cancels an appointment, as the Cancel button does.
+     *
+     * @param fields The command fields.
+     * @return The result message.
+     */
+    private String cancel(String[] fields) {
+        Date date = parseDate(fields[1]);
+        Timeslot slot = Timeslot.of(fields[2]);
+        Person patient = parsePatient(fields[3], fields[4], fields[5]);
+        String missing = missing(date, "Appointment Date", slot, "Timeslot", patient, "Patient Details");
+        if (missing != null) {
+            return reject(missing);
+        }
+        ClinicService.Result result = service.cancel(date, slot, patient);
+        if (result.isDone()) {
+            canceled++;
+        }
+        return message(result);
+    }
+
+    /**
+     * Method: Moves an appointment to another timeslot on the same day, as the Reschedule tab does.
+     *
+     * @param fields The command fields.
+     * @return The result message.
+     */
+    private String reschedule(String[] fields) {
+        Date date = parseDate(fields[1]);
+        Timeslot oldSlot = Timeslot.of(fields[2]);
+        Timeslot newSlot = Timeslot.of(fields[6]);
+        Person patient = parsePatient(fields[3], fields[4], fields[5]);
+        String missing = missing(date, "Appointment Date", oldSlot, "Old Timeslot", newSlot, "New Timeslot",
+                patient, "Patient Details");
+        if (missing != null) {
+            return reject(missing);
+        }
+        ClinicService.Result result = service.reschedule(date, oldSlot, newSlot, patient);
+        if (result.isDone()) {
+            rescheduled++;
+        }
+        return message(result);
+    }
+
+    /**
+     * Method: Returns the message of a result, counting it if the command was rejected.
+     *
+     * @param result The result returned by the clinic service.
+     * @return The result message.
+     */
+    private String message(ClinicService.Result result) {
+        return result.isDone() ? result.message() : reject(result.message());
+    }
+
+    /**
+     * Method: Counts a rejected command and returns its message.
+     *
+     * @param message The reason the command was rejected.
+     * @return The result message.
+     */
+    private String reject(String message) {
+        rejected++;
+        return "REJECTED " + message;
+    }
+
+    /**
+     * Method: Lists the fields that are missing or could not be read, as the GUI's Missing Information alert does.
+     *
+     * @param values Pairs of a field value and the field's name; a null value is missing.
+     * @return The message naming the missing fields, or null if none are missing.
+     */
+    private static String missing(Object... values) {
+        StringBuilder missing = new StringBuilder();
+        for (int i = 0; i < values.length; i += 2) {
+            if (values[i] == null) {
+                missing.append(missing.isEmpty() ? "" : ", ").append(values[i + 1]);
+            }
+        }
+        return missing.isEmpty() ? null : "Missing Information: " + missing;
+    }
+
+    /**
+     * Method: Reads a date field.
+     *
+     * @param field The field, written M/D/YYYY.
+     * @return The date, or null if the field is not a date.
+     */
+    private static Date parseDate(String field) {
+        int packed = DateParser.parse(field);
+        return packed == DateParser.ERROR ? null : DateParser.toDate(packed);
+    }
+
+    /**
+     * Method: Reads the patient fields.
+     *
+     * @param firstName The first name field.
+     * @param lastName  The last name field.
+     * @param dob       The date of birth field.
+     * @return The patient, or null if a field is empty or the date of birth is not a date.
+     */
+    private static Person parsePatient(String firstName, String lastName, String dob) {
+        Date date = parseDate(dob);
+        if (date == null || firstName.isEmpty() || lastName.isEmpty()) {
+            return null;
+        }
+        return new Person(Profile.of(firstName, lastName, date));
+    }
+
+}
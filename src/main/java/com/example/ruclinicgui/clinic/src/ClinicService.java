@@ -0,0 +1,1058 @@
+package com.example.ruclinicgui.clinic.src;
+
+import com.example.ruclinicgui.clinic.src.util.AppointmentKeyIndex;
+import com.example.ruclinicgui.clinic.src.util.BookingLog;
+import com.example.ruclinicgui.clinic.src.util.CircularLinkedList;
+import com.example.ruclinicgui.clinic.src.util.Compactor;
+import com.example.ruclinicgui.clinic.src.util.Date;
+import com.example.ruclinicgui.clinic.src.util.Ledger;
+import com.example.ruclinicgui.clinic.src.util.List;
+import com.example.ruclinicgui.clinic.src.util.ListMethods;
+import com.example.ruclinicgui.clinic.src.util.Money;
+import com.example.ruclinicgui.clinic.src.util.Node;
+import com.example.ruclinicgui.clinic.src.util.OccupancyIndex;
+import com.example.ruclinicgui.clinic.src.util.RoomOccupancyIndex;
+import com.example.ruclinicgui.clinic.src.util.RosterLoader;
+import com.example.ruclinicgui.clinic.src.util.Snapshot;
+import com.example.ruclinicgui.clinic.src.util.Sort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The ClinicService class is the scheduling core of the clinic: it owns the providers, the technician rotation,
+ * the appointments with their key indexes, occupancy and billing ledgers, and optionally the booking journal,
+ * and it checks and applies the schedule, cancel and reschedule operations.
+ * It knows nothing of the GUI; the controller and the batch processor are clients that read input,
+ * call the service and show the results it returns.
+ * <p>
+ * Concurrency: one service may be shared by any number of threads. Every method takes a single
+ * read-write lock. Operations that change the clinic, including imaging bookings which advance the rotation,
+ * hold the write lock, so each one checks and applies atomically and all changes are totally ordered.
+ * Queries and reports hold the read lock, so they see the clinic between changes and run alongside each other;
+ * reports additionally take turns on the shared report formatter. Journal checkpoints run under the write lock
+ * and only the slow disk work happens outside it.
+ * Values passed in and returned, such as dates, timeslots and profiles, are immutable or interned and may be
+ * created on any thread.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class ClinicService implements Closeable {
+    private static final int NOT_FOUND = -1;
+    private static final int CHECKPOINT_AFTER_REPLAYED = 10000;
+    private static final long CHECKPOINT_SEGMENT_BYTES = Long.getLong("clinic.checkpoint.bytes", 64L << 20);
+    private static final long CHECKPOINT_AGE_MILLIS = Long.getLong("clinic.checkpoint.age", 10 * 60 * 1000L);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Appointment> appts = new List<>(true);
+    private final List<Appointment> imagingAppts = new List<>(true);
+    private final List<Provider> providers = new List<>(true);
+    private final CircularLinkedList technicians = new CircularLinkedList();
+    private final AppointmentKeyIndex apptKeys = new AppointmentKeyIndex();
+    private final AppointmentKeyIndex imagingKeys = new AppointmentKeyIndex();
+    private final OccupancyIndex<Provider> providerSlots = new OccupancyIndex<>();
+    private final RoomOccupancyIndex roomSlots = new RoomOccupancyIndex();
+    private final Ledger<Profile> patientCharges = new Ledger<>();
+    private final Ledger<Provider> providerCredits = new Ledger<>();
+    private final List<String> providerKeys = new List<>(true);
+    private final ListMethods<Appointment> methods = new ListMethods<>();
+    private final Sort<Provider> sort = new Sort<>();
+    private Provider[] keyedProviders = new Provider[0];
+    private Provider[] roster;
+    private Node pointer;
+    private BookingLog bookingLog;
+    private Compactor compactor;
+    private Warnings warnings = (title, message) -> { };
+    private boolean journalFailed;
+
+    /**
+     * The outcome of an operation, with the title and message the user is shown.
+     */
+    public static final class Result {
+        /**
+         * How an operation ended.
+         */
+        public enum Status {
+            /** The operation was applied. */
+            DONE,
+            /** The input broke a rule, such as an appointment date on a weekend. */
+            INVALID,
+            /** The input was valid but the operation conflicts with the schedule. */
+            REJECTED
+        }
+
+        private final Status status;
+        private final String title;
+        private final String message;
+
+        /**
+         * Constructor: Initializes a result.
+         *
+         * @param status  How the operation ended.
+         * @param title   A short title for the result.
+         * @param message The message describing the result.
+         */
+        private Result(Status status, String title, String message) {
+            this.status = status;
+            this.title = title;
+            this.message = message;
+        }
+
+        /**
+         * Method: Returns how the operation ended.
+         *
+         * @return The status.
+         */
+        public Status status() {
+            return status;
+        }
+
+        /**
+         * Method: Checks if the operation was applied.
+         *
+         * @return true if the operation was applied, false otherwise.
+         */
+        public boolean isDone() {
+            return status == Status.DONE;
+        }
+
+        /**
+         * Method: Returns the title of the result, such as Duplicate Appointment.
+         *
+         * @return The title.
+         */
+        public String title() {
+            return title;
+        }
+
+        /**
+         * Method: Returns the message describing the result.
+         *
+         * @return The message.
+         */
+        public String message() {
+            return message;
+        }
+    }
+
+    /**
+     * Receives problems that do not stop the clinic from working, such as an unreadable snapshot
+     * or a booking journal that can no longer be written.
+     * Problems found while checkpointing in the background are reported on the background thread.
+     */
+    public interface Warnings {
+        /**
+         * Method: Reports a problem.
+         *
+         * @param title   A short title for the problem.
+         * @param message The message describing the problem.
+         */
+        void warn(String title, String message);
+    }
+
+    /**
+     * Default constructor: Initializes a clinic with no providers and no appointments.
+     */
+    public ClinicService() {
+    }
+
+    /**
+     * Method: Loads a roster of providers into the clinic, kept in memory only.
+     * The technicians join the rotation in roster order.
+     *
+     * @param loaded The providers.
+     */
+    public void load(RosterLoader.Roster loaded) {
+        lock.writeLock().lock();
+        try {
+            addRoster(loaded.providers());
+            for (Technician technician : loaded.technicians()) {
+                technicians.addTechnician(listed(technician));
+            }
+            pointer = technicians.getHead();
+            registerTechnicians();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Loads the providers in a file, then restores the appointment book from the snapshot
+     * and the booking journal kept next to the file, and keeps journaling new changes there.
+     * The journal is checkpointed into the snapshot in the background.
+     *
+     * @param file     The provider file.
+     * @param warnings Receives problems with the snapshot or journal, now or later; the clinic keeps working
+     *                 without them.
+     * @throws IOException if the provider file cannot be read.
+     */
+    public void open(Path file, Warnings warnings) throws IOException {
+        RosterLoader.Roster loaded = RosterLoader.load(file);
+        lock.writeLock().lock();
+        try {
+            this.warnings = warnings;
+            addRoster(loaded.providers());
+            Path snapshotPath = file.resolveSibling(file.getFileName() + ".snapshot");
+            Snapshot snapshot = readSnapshot(snapshotPath, warnings);
+            if (snapshot == null) {
+                for (Technician technician : loaded.technicians()) {
+                    technicians.addTechnician(listed(technician));
+                }
+            } else {
+                Technician[] rotation = snapshot.rotation();
+                for (int i = rotation.length - 1; i >= 0; i--) {
+                    technicians.addTechnician(rotation[i]);
+                }
+            }
+            pointer = technicians.getHead();
+            registerTechnicians();
+            long firstSegment = 0;
+            if (snapshot != null) {
+                restoreAppointments(snapshot);
+                if (snapshot.next() != null) {
+                    pointer = nodeOf(snapshot.next());
+                }
+                firstSegment = snapshot.journalSegment();
+            }
+            int replayed = openBookingLog(file.resolveSibling(file.getFileName() + ".journal"), firstSegment, warnings);
+            if (bookingLog != null) {
+                compactor = new Compactor(bookingLog, snapshotPath, this::underWriteLock,
+                        segment -> Snapshot.capture(roster, technicians, pointer, appts, segment),
+                        cause -> warnings.warn("Booking Journal Error", "The booking journal could not be "
+                                + "checkpointed, so it keeps growing and takes longer to restore: " + cause.getMessage()),
+                        CHECKPOINT_SEGMENT_BYTES, CHECKPOINT_AGE_MILLIS);
+                if (replayed >= CHECKPOINT_AFTER_REPLAYED) {
+                    compactor.requestCheckpoint();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Stops checkpointing and closes the booking journal, writing out every change recorded so far.
+     *
+     * @throws IOException if the last changes could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        Compactor closingCompactor;
+        BookingLog closingLog;
+        lock.writeLock().lock();
+        try {
+            closingCompactor = compactor;
+            closingLog = bookingLog;
+            compactor = null;
+            bookingLog = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (closingCompactor != null) {
+            closingCompactor.close();
+        }
+        if (closingLog != null) {
+            closingLog.close();
+        }
+    }
+
+    /**
+     * Method: Books an office visit with a doctor.
+     *
+     * @param date     The appointment date.
+     * @param slot     The timeslot.
+     * @param patient  The patient.
+     * @param provider The doctor.
+     * @return The result of the booking.
+     */
+    public Result schedule(Date date, Timeslot slot, Person patient, Provider provider) {
+        Result invalid = checkApptDate(date.toString(), date);
+        if (invalid == null) {
+            invalid = checkDOB(patient.getProfile().getDob());
+        }
+        if (invalid != null) {
+            return invalid;
+        }
+        if (!(provider instanceof Doctor)) {
+            return new Result(Result.Status.INVALID, "Invalid Provider", provider + " is not a doctor.");
+        }
+        lock.writeLock().lock();
+        try {
+            if (apptKeys.contains(patient.getProfile(), date, slot)) {
+                return new Result(Result.Status.REJECTED, "Duplicate Appointment",
+                        patient.getProfile().toString() + " has an existing appointment at the same time.");
+            }
+            if (providerSlots.isTaken(provider, date, slot)) {
+                return new Result(Result.Status.REJECTED, "Timeslot Unavailable",
+                        provider.toString() + " is not available at " + slot.toString() + ".");
+            }
+            addAppointment(new Appointment(date, slot, patient, provider));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Result(Result.Status.DONE, "Booked", date.toString() + " " + slot.toString() + " "
+                + patient.getProfile().toString() + " " + provider.toString() + " booked.");
+    }
+
+    /**
+     * Method: Books an imaging service with the next free technician in the rotation.
+     *
+     * @param date        The appointment date.
+     * @param slot        The timeslot.
+     * @param patient     The patient.
+     * @param imagingType The imaging service: xray, catscan or ultrasound in any letter case.
+     * @return The result of the booking.
+     */
+    public Result scheduleImaging(Date date, Timeslot slot, Person patient, String imagingType) {
+        Result invalid = checkApptDate(date.toString(), date);
+        if (invalid == null) {
+            invalid = checkDOB(patient.getProfile().getDob());
+        }
+        if (invalid != null) {
+            return invalid;
+        }
+        Radiology room = room(imagingType);
+        if (room == null) {
+            return new Result(Result.Status.INVALID, "Invalid Imaging Type",
+                    imagingType + " is not a valid imaging service.");
+        }
+        Technician technician;
+        lock.writeLock().lock();
+        try {
+            if (imagingKeys.contains(patient.getProfile(), date, slot)) {
+                return new Result(Result.Status.REJECTED, "Duplicate Appointment",
+                        patient.getProfile().toString() + " has an existing appointment at the same time.");
+            }
+            technician = techAvailable(date, slot, room);
+            if (technician == null) {
+                return new Result(Result.Status.REJECTED, "No Technician Available",
+                        "No available technician for " + imagingType + " at " + slot.toString());
+            }
+            addAppointment(new Imaging(date, slot, patient, technician, room));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Result(Result.Status.DONE, "Booked", date.toString() + " " + slot.toString() + " "
+                + patient.getProfile().toString() + " with " + technician.toString() + " in " + room.toString()
+                + " booked.");
+    }
+
+    /**
+     * Method: Cancels an appointment.
+     *
+     * @param date    The appointment date.
+     * @param slot    The timeslot.
+     * @param patient The patient.
+     * @return The result of the cancellation.
+     */
+    public Result cancel(Date date, Timeslot slot, Person patient) {
+        String appointment = date.toString() + " " + slot.toString() + " " + patient.getProfile().toString();
+        lock.writeLock().lock();
+        try {
+            Appointment booked = apptKeys.get(patient.getProfile(), date, slot);
+            if (booked == null) {
+                return new Result(Result.Status.REJECTED, "Appointment Not Found",
+                        appointment + " - appointment does not exist.");
+            }
+            removeAppointment(booked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Result(Result.Status.DONE, "Canceled", appointment + " - appointment has been canceled.");
+    }
+
+    /**
+     * Method: Moves an appointment to another timeslot on the same day.
+     * The appointment date and the patient's date of birth are not checked, since the appointment is already booked.
+     * An imaging appointment is not moved into a timeslot its room is already booked for by another technician:
+     * the room index keeps one bit per room and timeslot, so two appointments sharing a room and timeslot
+     * would leave it marking the room free once either of them is canceled or moved.
+     *
+     * @param date    The appointment date.
+     * @param oldSlot The timeslot the appointment is booked at.
+     * @param newSlot The timeslot to move the appointment to.
+     * @param patient The patient.
+     * @return The result of the move.
+     */
+    public Result reschedule(Date date, Timeslot oldSlot, Timeslot newSlot, Person patient) {
+        Profile profile = patient.getProfile();
+        String patientText = profile.getFirstName() + " " + profile.getLastName() + " " + profile.getDob().toString();
+        Provider provider;
+        lock.writeLock().lock();
+        try {
+            if (appts.isEmpty()) {
+                return new Result(Result.Status.REJECTED, "Invalid Reschedule", "No appointments scheduled.");
+            }
+            Appointment appointment = apptKeys.get(profile, date, oldSlot);
+            if (appointment == null) {
+                return new Result(Result.Status.REJECTED, "Appointment Not Found",
+                        date.toString() + " " + oldSlot.toString() + " " + patientText + " does not exist.");
+            }
+            if (apptKeys.contains(profile, date, newSlot)) {
+                return new Result(Result.Status.REJECTED, "Duplicate Appointment",
+                        profile.toString() + " has an existing appointment at " + date.toString() + " " + newSlot.toString());
+            }
+            provider = appointment.getProvider();
+            if (providerSlots.isTaken(provider, date, newSlot)) {
+                return new Result(Result.Status.REJECTED, "Timeslot Unavailable",
+                        provider.toString() + " is not available at " + newSlot.toString());
+            }
+            if (appointment instanceof Imaging
+                    && !roomSlots.isFree(provider.getLocation(), ((Imaging) appointment).getRoom(), date, newSlot)) {
+                return new Result(Result.Status.REJECTED, "Room Unavailable",
+                        ((Imaging) appointment).getRoom().toString() + " at " + provider.getLocation()
+                                + " is not available at " + newSlot.toString());
+            }
+            moveAppointment(appointment, newSlot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Result(Result.Status.DONE, "Rescheduled", "Rescheduled to " + date.toString() + " "
+                + newSlot.toString() + " " + patientText + " " + provider.toString());
+    }
+
+    /**
+     * Method: Checks an appointment date against the clinic's booking rules.
+     *
+     * @param input The date as the user wrote it.
+     * @param date  The date.
+     * @return An invalid result explaining why the date cannot be booked, or null if it can.
+     */
+    public static Result checkApptDate(String input, Date date) {
+        if (!date.isValidDate()) {
+            return new Result(Result.Status.INVALID, "Invalid Date",
+                    "Appointment date: " + input + " is not a valid calendar date.");
+        } else if (date.isBeforeToday() || date.isToday()) {
+            return new Result(Result.Status.INVALID, "Invalid Appointment Date",
+                    "Appointment date: " + input + " is today or a date before today.");
+        } else if (date.onWeekend()) {
+            return new Result(Result.Status.INVALID, "Weekend Appointment",
+                    "Appointment date: " + input + " is Saturday or Sunday.");
+        } else if (!date.isWithinSixMonths()) {
+            return new Result(Result.Status.INVALID, "Out of Range",
+                    "Appointment date: " + input + " is not within six months.");
+        }
+        return null;
+    }
+
+    /**
+     * Method: Checks a patient's date of birth.
+     *
+     * @param dob The date of birth.
+     * @return An invalid result explaining why the date of birth is not accepted, or null if it is.
+     */
+    public static Result checkDOB(Date dob) {
+        if (!dob.isValidDate()) {
+            return new Result(Result.Status.INVALID, "Invalid Date",
+                    "Patient DOB " + dob.toString() + " is not a valid calendar date.");
+        } else if (dob.isToday() || dob.isFutureDate()) {
+            return new Result(Result.Status.INVALID, "Invalid Date",
+                    "Patient DOB " + dob.toString() + " is today or a future date.");
+        }
+        return null;
+    }
+
+    /**
+     * Method: Converts an imaging service name to its radiology room.
+     *
+     * @param input The imaging service: xray, catscan or ultrasound in any letter case.
+     * @return The radiology room, or null if the name is not an imaging service.
+     */
+    public static Radiology room(String input) {
+        switch (input.toLowerCase()) {
+            case "xray":
+                return Radiology.XRAY;
+            case "catscan":
+                return Radiology.CATSCAN;
+            case "ultrasound":
+                return Radiology.ULTRASOUND;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Method: Finds a provider by listing, as the provider list shows it, or a doctor by NPI.
+     *
+     * @param key The listing or NPI.
+     * @return The provider, or null if no provider matches.
+     */
+    public Provider provider(String key) {
+        lock.readLock().lock();
+        try {
+            int index = providerKeys.indexOf(key);
+            return index == NOT_FOUND ? null : keyedProviders[index];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Returns the listings of the doctors, sorted by provider.
+     *
+     * @return The doctors' listings.
+     */
+    public String[] doctorListings() {
+        lock.readLock().lock();
+        try {
+            int doctors = 0;
+            for (Provider provider : providers) {
+                if (provider instanceof Doctor) {
+                    doctors++;
+                }
+            }
+            String[] listings = new String[doctors];
+            doctors = 0;
+            for (Provider provider : providers) {
+                if (provider instanceof Doctor) {
+                    listings[doctors++] = provider.toString();
+                }
+            }
+            return listings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Returns the number of booked appointments.
+     *
+     * @return The number of appointments.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return appts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Returns the amount currently due from a patient.
+     *
+     * @param patient The patient's profile.
+     * @return The total charge of the patient's booked appointments.
+     */
+    public Money amountDue(Profile patient) {
+        lock.readLock().lock();
+        try {
+            return Money.ofCents(patientCharges.amountOf(patient));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints the providers sorted by provider, followed by the technician rotation.
+     *
+     * @return The provider listing, one provider per line.
+     */
+    public String printProviders() {
+        lock.readLock().lock();
+        try {
+            StringBuilder output = new StringBuilder();
+            for (int i = 0; i < providers.size(); i++) {
+                output.append(providers.get(i).toString()).append("\n");
+            }
+            return output.append(technicians.display()).append("\n").toString();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints all appointments ordered by date, time and provider.
+     *
+     * @return The report.
+     */
+    public String printByAppointment() {
+        lock.readLock().lock();
+        try {
+            synchronized (methods) {
+                return methods.printByAppointment(appts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints all appointments ordered by patient, date and time.
+     *
+     * @return The report.
+     */
+    public String printByPatient() {
+        lock.readLock().lock();
+        try {
+            synchronized (methods) {
+                return methods.printByPatient(appts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints all appointments ordered by county, date and time.
+     *
+     * @return The report.
+     */
+    public String printByLocation() {
+        lock.readLock().lock();
+        try {
+            synchronized (methods) {
+                return methods.printByLocation(appts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints the office appointments ordered by county, date and time.
+     *
+     * @return The report.
+     */
+    public String printOfficeAppointments() {
+        lock.readLock().lock();
+        try {
+            synchronized (methods) {
+                return methods.printOfficeAppointments(appts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints the imaging appointments ordered by county, date and time.
+     *
+     * @return The report.
+     */
+    public String printImagingAppointments() {
+        lock.readLock().lock();
+        try {
+            synchronized (methods) {
+                return methods.printImagingAppointments(appts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints the billing statement, the amount due from each patient.
+     *
+     * @return The report.
+     */
+    public String printAllCharges() {
+        lock.readLock().lock();
+        try {
+            synchronized (methods) {
+                return methods.printAllCharge(patientCharges);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Prints the credit owed to each provider.
+     *
+     * @return The report, or a notice if there are no appointments.
+     */
+    public String printProviderCharges() {
+        lock.readLock().lock();
+        try {
+            if (appts.isEmpty()) {
+                return "\nThere are no appointments in the system.\n";
+            }
+            synchronized (methods) {
+                return methods.printProviderCharges(providerCredits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Runs a task while holding the write lock. Journal checkpoints run through this.
+     *
+     * @param task The task.
+     */
+    private void underWriteLock(Runnable task) {
+        lock.writeLock().lock();
+        try {
+            task.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Method: Adds loaded providers to the provider list, which is kept sorted by provider,
+     * and makes them findable by listing, and doctors by NPI.
+     * A provider listed twice is kept once, as the provider list always has, and the roster handed to the
+     * booking journal and the snapshot leaves the repeat out too, so all three number providers alike.
+     *
+     * @param loaded The providers.
+     */
+    private void addRoster(Provider[] loaded) {
+        List<Provider> distinct = new List<>(true);
+        distinct.addAll(loaded);
+        roster = new Provider[distinct.size()];
+        for (int i = 0; i < roster.length; i++) {
+            roster[i] = distinct.get(i);
+        }
+        providers.addAll(roster);
+        sort.sortByProvider(providers);
+        Provider[] grown = new Provider[keyedProviders.length + loaded.length * 2];
+        System.arraycopy(keyedProviders, 0, grown, 0, keyedProviders.length);
+        keyedProviders = grown;
+        for (Provider provider : roster) {
+            if (provider instanceof Doctor) {
+                key(((Doctor) provider).getNPI(), provider);
+            }
+            key(provider.toString(), provider);
+        }
+    }
+
+    /**
+     * Method: Returns the instance of a technician kept in the provider list, which is the first one listed
+     * if the roster repeats the technician.
+     *
+     * @param technician The technician as loaded.
+     * @return The technician in the provider list.
+     */
+    private Technician listed(Technician technician) {
+        return (Technician) providers.get(providers.indexOf(technician));
+    }
+
+    /**
+     * Method: Makes a provider findable by a key, unless the key is already taken.
+     *
+     * @param key      The NPI or listing of the provider.
+     * @param provider The provider.
+     */
+    private void key(String key, Provider provider) {
+        if (providerKeys.contains(key)) {
+            return;
+        }
+        providerKeys.add(key);
+        keyedProviders[providerKeys.size() - 1] = provider;
+    }
+
+    /**
+     * Method: Walks the rotation from the current pointer to the first technician who is free
+     * and whose location has the room free, leaving the pointer just past that technician.
+     *
+     * @param date     The appointment date.
+     * @param timeslot The timeslot.
+     * @param room     The radiology room.
+     * @return The technician, or null if none is available.
+     */
+    private Technician techAvailable(Date date, Timeslot timeslot, Radiology room) {
+        if (pointer == null) {
+            return null;
+        }
+        if (imagingAppts.isEmpty()) {
+            return pointer.getTechnician();
+        }
+        Node start = pointer;
+        do {
+            Technician currentTech = pointer.getTechnician();
+            boolean techFree = !providerSlots.isTaken(currentTech, date, timeslot);
+            boolean roomFree = roomSlots.isFree(currentTech.getLocation(), room, date, timeslot);
+            pointer = pointer.getNext();
+            if (techFree && roomFree) {
+                return currentTech;
+            }
+        } while (pointer != start);
+        return null;
+    }
+
+    /**
+     * Method: Books an appointment and records it in the booking journal.
+     * An imaging booking also records where the technician rotation stopped, so a replay resumes it there.
+     *
+     * @param appointment The appointment.
+     */
+    private void addAppointment(Appointment appointment) {
+        attachAppointment(appointment);
+        if (bookingLog != null) {
+            Technician next = appointment instanceof Imaging && pointer != null ? pointer.getTechnician() : null;
+            journaled(bookingLog.booked(appointment, next));
+        }
+    }
+
+    /**
+     * Method: Cancels an appointment and records the cancellation in the booking journal.
+     *
+     * @param appointment The appointment.
+     */
+    private void removeAppointment(Appointment appointment) {
+        if (bookingLog != null) {
+            journaled(bookingLog.canceled(appointment));
+        }
+        detachAppointment(appointment);
+    }
+
+    /**
+     * Method: Moves an appointment to a new timeslot on the same day and records the move in the booking journal.
+     *
+     * @param appointment The appointment.
+     * @param newSlot     The new timeslot.
+     */
+    private void moveAppointment(Appointment appointment, Timeslot newSlot) {
+        if (bookingLog != null) {
+            journaled(bookingLog.rescheduled(appointment, newSlot));
+        }
+        shiftAppointment(appointment, newSlot);
+    }
+
+    /**
+     * Method: Warns, the first time a change could not be journaled, that changes are no longer being saved.
+     *
+     * @param saved Whether the change was journaled.
+     */
+    private void journaled(boolean saved) {
+        if (saved || journalFailed) {
+            return;
+        }
+        journalFailed = true;
+        IOException cause = bookingLog.failure();
+        warnings.warn("Booking Journal Error", "Changes are no longer being saved: "
+                + (cause == null ? "the booking journal is closed." : cause.getMessage()));
+    }
+
+    /**
+     * Method: Moves an appointment to a new timeslot on the same day.
+     * The appointment is taken out of the hash-indexed structures while its key changes.
+     *
+     * @param appointment The appointment.
+     * @param newSlot     The new timeslot.
+     */
+    private void shiftAppointment(Appointment appointment, Timeslot newSlot) {
+        detachAppointment(appointment);
+        appointment.setTimeslot(newSlot);
+        attachAppointment(appointment);
+    }
+
+    /**
+     * Method: Adds a booked appointment to the appointment lists, their key indexes and the provider's day.
+     *
+     * @param appointment The appointment.
+     */
+    private void attachAppointment(Appointment appointment) {
+        appts.add(appointment);
+        if (appointment instanceof Imaging) {
+            imagingAppts.add(appointment);
+        }
+        indexAppointment(appointment);
+    }
+
+    /**
+     * Method: Adds an appointment that is already in the appointment lists to their key indexes and the provider's day,
+     * books its room if it is an imaging appointment, and bills the visit.
+     *
+     * @param appointment The appointment.
+     */
+    private void indexAppointment(Appointment appointment) {
+        apptKeys.put(appointment);
+        providerSlots.occupy(appointment.getProvider(), appointment.getDate(), appointment.getTimeslot());
+        patientCharges.post(appointment.getProfile().getProfile(), Money.toCents(charge(appointment)));
+        providerCredits.post(appointment.getProvider(), Money.toCents(charge(appointment)));
+        if (appointment instanceof Imaging) {
+            imagingKeys.put(appointment);
+            roomSlots.occupy(appointment.getProvider().getLocation(), ((Imaging) appointment).getRoom(),
+                    appointment.getDate(), appointment.getTimeslot());
+        }
+    }
+
+    /**
+     * Method: Removes an appointment from the appointment lists, their key indexes and the provider's day,
+     * and reverses its charge and credit.
+     *
+     * @param appointment The appointment.
+     */
+    private void detachAppointment(Appointment appointment) {
+        appts.remove(appointment);
+        apptKeys.remove(appointment);
+        providerSlots.release(appointment.getProvider(), appointment.getDate(), appointment.getTimeslot());
+        patientCharges.reverse(appointment.getProfile().getProfile(), Money.toCents(charge(appointment)));
+        providerCredits.reverse(appointment.getProvider(), Money.toCents(charge(appointment)));
+        if (appointment instanceof Imaging) {
+            imagingAppts.remove(appointment);
+            imagingKeys.remove(appointment);
+            roomSlots.release(appointment.getProvider().getLocation(), ((Imaging) appointment).getRoom(),
+                    appointment.getDate(), appointment.getTimeslot());
+        }
+    }
+
+    /**
+     * Method: Returns the charge for an appointment: the specialty charge for a doctor's visit,
+     * or the technician's rate for an imaging service.
+     *
+     * @param appointment The appointment.
+     * @return The charge, in dollars.
+     */
+    private static int charge(Appointment appointment) {
+        return charge(appointment.getProvider());
+    }
+
+    /**
+     * Method: Returns the charge for an appointment with a provider.
+     *
+     * @param provider The provider.
+     * @return The charge, in dollars.
+     */
+    private static int charge(Provider provider) {
+        if (provider instanceof Doctor) {
+            return ((Doctor) provider).getSpecialty().getCharge();
+        }
+        return ((Technician) provider).rate();
+    }
+
+    /**
+     * Method: Restores the appointments of a snapshot, adding them to the appointment lists and key indexes
+     * in bulk and posting each patient's and provider's charges once rather than once per appointment.
+     *
+     * @param snapshot The snapshot.
+     */
+    private void restoreAppointments(Snapshot snapshot) {
+        Appointment[] restored = new Appointment[snapshot.size()];
+        int imaging = 0;
+        for (int i = 0; i < restored.length; i++) {
+            restored[i] = snapshot.appointment(i);
+            if (restored[i] instanceof Imaging) {
+                imaging++;
+            }
+        }
+        Appointment[] restoredImaging = new Appointment[imaging];
+        imaging = 0;
+        for (Appointment appointment : restored) {
+            if (appointment instanceof Imaging) {
+                restoredImaging[imaging++] = appointment;
+            }
+        }
+        appts.addAll(restored);
+        imagingAppts.addAll(restoredImaging);
+        apptKeys.putAll(restored);
+        imagingKeys.putAll(restoredImaging);
+        for (Appointment appointment : restored) {
+            providerSlots.occupy(appointment.getProvider(), appointment.getDate(), appointment.getTimeslot());
+        }
+        for (Appointment appointment : restoredImaging) {
+            roomSlots.occupy(appointment.getProvider().getLocation(), ((Imaging) appointment).getRoom(),
+                    appointment.getDate(), appointment.getTimeslot());
+        }
+        Provider[] bookedWith = snapshot.providers();
+        long[] charges = new long[bookedWith.length];
+        for (int i = 0; i < bookedWith.length; i++) {
+            charges[i] = Money.toCents(charge(bookedWith[i]));
+        }
+        snapshot.postCharges(patientCharges, providerCredits, charges);
+    }
+
+    /**
+     * Method: Reads the snapshot kept next to the provider file, if it was taken with the same providers.
+     *
+     * @param snapshotPath The snapshot file.
+     * @param warnings     Receives a problem reading the snapshot.
+     * @return The snapshot on the loaded roster, or null if there is no usable snapshot.
+     */
+    private Snapshot readSnapshot(Path snapshotPath, Warnings warnings) {
+        try {
+            Snapshot snapshot = Snapshot.read(snapshotPath);
+            return snapshot == null ? null : snapshot.onRoster(roster);
+        } catch (IOException e) {
+            warnings.warn("Snapshot Error", "The snapshot could not be read, so only the booking journal will be replayed: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Method: Replays the booking journal, then keeps journaling new changes to it.
+     * A journal written for a different provider file is left alone and nothing is journaled.
+     *
+     * @param journal      The base path of the journal segments.
+     * @param firstSegment The first journal segment not covered by the snapshot.
+     * @param warnings     Receives a problem opening the journal.
+     * @return The number of changes replayed from the journal.
+     */
+    private int openBookingLog(Path journal, long firstSegment, Warnings warnings) {
+        int[] replayed = {0};
+        try {
+            bookingLog = BookingLog.open(journal, roster, firstSegment, new BookingLog.Listener() {
+                @Override
+                public void booked(Appointment appointment, Technician next) {
+                    replayed[0]++;
+                    attachAppointment(appointment);
+                    if (next != null) {
+                        pointer = nodeOf(next);
+                    }
+                }
+
+                @Override
+                public void canceled(Profile patient, Date date, Timeslot timeslot) {
+                    replayed[0]++;
+                    Appointment appointment = apptKeys.get(patient, date, timeslot);
+                    if (appointment != null) {
+                        detachAppointment(appointment);
+                    }
+                }
+
+                @Override
+                public void rescheduled(Profile patient, Date date, Timeslot from, Timeslot to) {
+                    replayed[0]++;
+                    Appointment appointment = apptKeys.get(patient, date, from);
+                    if (appointment != null) {
+                        shiftAppointment(appointment, to);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            warnings.warn("Booking Journal Error", "Appointments will not be saved: " + e.getMessage());
+        }
+        return replayed[0];
+    }
+
+    /**
+     * Method: Finds a technician's node in the rotation.
+     *
+     * @param technician The technician.
+     * @return The technician's node, or the current pointer if the technician is not in the rotation.
+     */
+    private Node nodeOf(Technician technician) {
+        Node start = technicians.getHead();
+        if (start == null) {
+            return pointer;
+        }
+        Node curr = start;
+        do {
+            if (curr.getTechnician().equals(technician)) {
+                return curr;
+            }
+            curr = curr.getNext();
+        } while (curr != start);
+        return pointer;
+    }
+
+    /**
+     * Method: Gives every technician an entry in the provider credits, in rotation order,
+     * so credits print in the same order as a full recount would give.
+     */
+    private void registerTechnicians() {
+        Node start = technicians.getHead();
+        if (start == null) {
+            return;
+        }
+        Node curr = start;
+        do {
+            providerCredits.register(curr.getTechnician());
+            curr = curr.getNext();
+        } while (curr != start);
+    }
+}
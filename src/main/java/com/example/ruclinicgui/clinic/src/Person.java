@@ -59,6 +59,16 @@ public class Person implements Comparable<Person> {
         return false;
     }
 
+    /**
+     * Returns a hash code consistent with equals, taken from the person's profile.
+     *
+     * @return The hash code of the person.
+     */
+    @Override
+    public int hashCode() {
+        return this.profile == null ? 0 : this.profile.hashCode();
+    }
+
     /**
      * Returns a string representation of the person's profile.
      *
@@ -1,16 +1,35 @@
 package com.example.ruclinicgui.clinic.src;
 import com.example.ruclinicgui.clinic.src.util.Date;
+import com.example.ruclinicgui.clinic.src.util.InternPool;
 
 /**
  * The clinic.src.Profile class represents a patient's profile, including their first name,
  * last name, and date of birth. It implements the Comparable interface to allow
  * profiles to be compared based on their attributes.
+ * Each profile carries a collation key built once at construction: the trimmed, case-folded
+ * last and first names and the packed date of birth, so patient ordering never re-normalizes names.
  * @author Nithya Konduru, Dhyanashri Raman
  */
 public class Profile implements Comparable<Profile> {
     private String fname;
     private String lname;
     private Date dob;
+    private final int hash;
+    private final String lastNameKey;
+    private final String firstNameKey;
+    private final int dobKey;
+    private static final InternPool<Profile> POOL = new InternPool<>(new InternPool.Equivalence<Profile>() {
+        @Override
+        public int hash(Profile profile) {
+            return profile.hash;
+        }
+
+        @Override
+        public boolean same(Profile first, Profile second) {
+            return first.fname.equals(second.fname) && first.lname.equals(second.lname)
+                    && first.dob.equals(second.dob);
+        }
+    });
 
     /**
      * Constructor: Initializes a clinic.src.Profile object with the specified first name,
@@ -24,6 +43,63 @@ public class Profile implements Comparable<Profile> {
         this.fname = fname;
         this.lname = lname;
         this.dob = dob;
+        this.hash = (31 * foldedHash(fname) + foldedHash(lname)) * 31 + (dob == null ? 0 : dob.hashCode());
+        this.lastNameKey = collationKey(lname);
+        this.firstNameKey = collationKey(fname);
+        this.dobKey = dob == null ? 0 : dob.packed();
+    }
+
+    /**
+     * Method: Returns the shared profile for a patient, so a returning patient's appointments hold one Profile.
+     * Profiles are shared only when the names are spelled exactly alike, so each booking keeps the spelling it was made with.
+     *
+     * @param fname The first name of the patient.
+     * @param lname The last name of the patient.
+     * @param dob   The date of birth of the patient.
+     * @return The profile.
+     */
+    public static Profile of(String fname, String lname, Date dob) {
+        Profile profile = new Profile(fname, lname, dob);
+        if (fname == null || lname == null || dob == null) {
+            return profile;
+        }
+        return POOL.intern(profile);
+    }
+
+    /**
+     * Method: Builds the collation key of a name by trimming it and folding its case,
+     * so that comparing keys orders names exactly like trim().compareToIgnoreCase.
+     *
+     * @param name The name to normalize.
+     * @return The collation key of the name.
+     */
+    private static String collationKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        String trimmed = name.trim();
+        char[] folded = new char[trimmed.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(trimmed.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Method: Hashes a name the same way regardless of letter case, matching equalsIgnoreCase.
+     *
+     * @param name The name to hash.
+     * @return The case-insensitive hash of the name.
+     */
+    private static int foldedHash(String name) {
+        if (name == null) {
+            return 0;
+        }
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return h;
     }
 
     /**
@@ -77,6 +153,9 @@ public class Profile implements Comparable<Profile> {
      */
     @Override
     public boolean equals(Object patientProfile) {
+        if (patientProfile == this) {
+            return true;
+        }
         if (patientProfile instanceof Profile) {
             Profile profile = (Profile) patientProfile;
             return (profile.fname.equalsIgnoreCase(this.fname)
@@ -86,6 +165,16 @@ public class Profile implements Comparable<Profile> {
         return false;
     }
 
+    /**
+     * Method: Returns a hash code consistent with equals, computed once at construction.
+     *
+     * @return The case-insensitive hash code of the profile.
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
     /**
      * Method: Compares this clinic.src.Profile object with another clinic.src.Profile object for order.
      *
@@ -107,13 +196,27 @@ public class Profile implements Comparable<Profile> {
         } else if (fnameComparison > 0) {
             return 1;
         }
-        int dobComparison = this.dob.compareTo(patientProfile.dob);
-        if (dobComparison < 0) {
-            return -1;
-        } else if (dobComparison > 0) {
-            return 1;
+        return Integer.compare(this.dobKey, patientProfile.dobKey);
+    }
+
+    /**
+     * Method: Compares this profile with another by collation key: last name and first name,
+     * trimmed and ignoring case, then date of birth.
+     *
+     * @param patientProfile The profile to compare to.
+     * @return A negative integer, zero, or a positive integer as this profile
+     *         sorts before, together with, or after the specified profile.
+     */
+    public int compareToIgnoreCase(Profile patientProfile) {
+        int lnameComparison = this.lastNameKey.compareTo(patientProfile.lastNameKey);
+        if (lnameComparison != 0) {
+            return lnameComparison;
+        }
+        int fnameComparison = this.firstNameKey.compareTo(patientProfile.firstNameKey);
+        if (fnameComparison != 0) {
+            return fnameComparison;
         }
-        return 0;
+        return Integer.compare(this.dobKey, patientProfile.dobKey);
     }
 
     /**
@@ -74,6 +74,17 @@ public abstract class Provider extends Person {
         return false;
     }
 
+    /**
+     * Returns a hash code consistent with equals, taken from the provider's profile.
+     * Doctor and Technician equality refines profile equality, so they share this hash.
+     *
+     * @return The hash code of the provider.
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
     /**
      * Returns a string representation of the provider, including their profile, location, and specific details for doctors or technicians.
      *
@@ -2,78 +2,149 @@ package com.example.ruclinicgui.clinic.src;
 
 /**
  * The clinic.src.Timeslot class represents a specific time slot for appointments,
- * using hours and minutes. This class allows setting times based on predefined
- * slots and can compare and check equality between time slots.
+ * using hours and minutes. There is exactly one immutable instance for each of the clinic's
+ * twelve slots, numbered in time order, so timeslots compare by their ordinal and can be shared freely.
  * @author Nithya Konduru, Dhyanashri Raman
  */
-public class Timeslot implements Comparable<Timeslot> {
-    private int hour;
-    private int minute;
+public final class Timeslot implements Comparable<Timeslot> {
+    public static final int SLOT_COUNT = 12;
+    public static final int ALL_SLOTS = (1 << SLOT_COUNT) - 1;
+    private static final int FIRST_MORNING_HOUR = 9;
+    private static final int FIRST_AFTERNOON_HOUR = 14;
+    private static final int MORNING_SLOTS = 6;
+    private static final int NOON = 12;
+    private static final int NOT_FOUND = -1;
+    private static final Timeslot[] SLOTS = new Timeslot[SLOT_COUNT];
+    private final int hour;
+    private final int minute;
+    private final int ordinal;
+    private final String name;
+
+    static {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            SLOTS[i] = new Timeslot(i);
+        }
+    }
+
+    /**
+     * Constructs the timeslot at a position in the day.
+     *
+     * @param ordinal The position of the timeslot, from 0 for 9:00 AM to 11 for 4:30 PM.
+     */
+    private Timeslot(int ordinal) {
+        int firstHour = ordinal < MORNING_SLOTS ? FIRST_MORNING_HOUR : FIRST_AFTERNOON_HOUR;
+        int slotOfPeriod = ordinal < MORNING_SLOTS ? ordinal : ordinal - MORNING_SLOTS;
+        this.hour = firstHour + slotOfPeriod / 2;
+        this.minute = (slotOfPeriod % 2) * 30;
+        this.ordinal = ordinal;
+        int displayHour = this.hour % NOON == 0 ? NOON : this.hour % NOON;
+        this.name = displayHour + ":" + (this.minute < 10 ? "0" : "") + this.minute + " " + (this.hour < NOON ? "AM" : "PM");
+    }
+
+    /**
+     * Method: Returns the timeslot written in 12-hour format, such as "9:00 AM" or "2:30 PM".
+     *
+     * @param slot The timeslot as it is shown to the user.
+     * @return The timeslot, or null if the text is not one of the clinic's slots.
+     */
+    public static Timeslot of(String slot) {
+        if (slot == null) {
+            return null;
+        }
+        int ordinal = parseOrdinal(slot);
+        if (ordinal == NOT_FOUND || !SLOTS[ordinal].name.equals(slot)) {
+            return null;
+        }
+        return SLOTS[ordinal];
+    }
 
     /**
-     * Default constructor for creating an empty Timeslot object.
+     * Method: Returns the timeslot at a position in the day.
+     *
+     * @param ordinal The position of the timeslot, from 0 for 9:00 AM to 11 for 4:30 PM.
+     * @return The timeslot, or null if the ordinal is out of range.
      */
-    public Timeslot() {
+    public static Timeslot of(int ordinal) {
+        return ordinal >= 0 && ordinal < SLOT_COUNT ? SLOTS[ordinal] : null;
     }
 
     /**
-     * Method: Sets the timeslot based on a predefined slot number.
+     * Method: Works out which slot a 12-hour time names from its hour and minute digits.
+     * The caller confirms the whole text matches the slot.
      *
-     * @param slot The slot number as a string (e.g., "1" for 9:00 AM).
-     * @return true if the slot is successfully set, false if the slot is invalid.
+     * @param slot The timeslot as it is shown to the user.
+     * @return The ordinal of the slot, or -1 if the time is not one of the clinic's slots.
      */
-    public boolean setTimeslot(String slot) {
-        switch (slot) {
-            case "9:00 AM" -> { this.hour = 9; this.minute = 0; return true; }
-            case "9:30 AM" -> { this.hour = 9; this.minute = 30; return true; }
-            case "10:00 AM" -> { this.hour = 10; this.minute = 0; return true; }
-            case "10:30 AM" -> { this.hour = 10; this.minute = 30; return true; }
-            case "11:00 AM" -> { this.hour = 11; this.minute = 0; return true; }
-            case "11:30 AM" -> { this.hour = 11; this.minute = 30; return true; }
-            case "2:00 PM" -> { this.hour = 14; this.minute = 0; return true; }
-            case "2:30 PM" -> { this.hour = 14; this.minute = 30; return true; }
-            case "3:00 PM" -> { this.hour = 15; this.minute = 0; return true; }
-            case "3:30 PM" -> { this.hour = 15; this.minute = 30; return true; }
-            case "4:00 PM" -> { this.hour = 16; this.minute = 0; return true; }
-            case "4:30 PM" -> { this.hour = 16; this.minute = 30; return true; }
-            default -> { return false; }
+    private static int parseOrdinal(String slot) {
+        int colon = slot.indexOf(':');
+        if (colon < 1 || colon > 2 || slot.length() != colon + 6) {
+            return NOT_FOUND;
+        }
+        int hour = 0;
+        for (int i = 0; i < colon; i++) {
+            char c = slot.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_FOUND;
+            }
+            hour = hour * 10 + (c - '0');
+        }
+        if (slot.charAt(colon + 2) != '0') {
+            return NOT_FOUND;
         }
+        int half = slot.charAt(colon + 1) == '3' ? 1 : 0;
+        if (slot.charAt(colon + 4) == 'P') {
+            hour = hour % NOON + NOON;
+        }
+        if (hour >= FIRST_MORNING_HOUR && hour < FIRST_MORNING_HOUR + MORNING_SLOTS / 2) {
+            return (hour - FIRST_MORNING_HOUR) * 2 + half;
+        }
+        if (hour >= FIRST_AFTERNOON_HOUR && hour < FIRST_AFTERNOON_HOUR + (SLOT_COUNT - MORNING_SLOTS) / 2) {
+            return MORNING_SLOTS + (hour - FIRST_AFTERNOON_HOUR) * 2 + half;
+        }
+        return NOT_FOUND;
     }
 
     /**
-     * Compares this timeslot to another timeslot based on the hour and minute.
+     * Method: Returns the position of this timeslot in the day, from 0 for 9:00 AM to 11 for 4:30 PM.
+     * Timeslots are numbered in time order, so the ordinal can index arrays and bitmasks.
+     *
+     * @return The ordinal of the timeslot.
+     */
+    public int ordinal() {
+        return this.ordinal;
+    }
+
+    /**
+     * Compares this timeslot to another timeslot by their position in the day.
      *
      * @param slot The timeslot to compare with.
      * @return     A negative integer, zero, or a positive integer as this timeslot is earlier than, equal to, or later than the specified timeslot.
      */
     @Override
     public int compareTo(Timeslot slot) {
-        if (this.hour > slot.hour) {
-            return 1;
-        } else if (this.hour < slot.hour) {
-            return -1;
-        }
-        if (this.minute > slot.minute) {
-            return 1;
-        } else if (this.minute < slot.minute) {
-            return -1;
-        }
-        return 0;
+        return Integer.compare(this.ordinal, slot.ordinal);
     }
 
     /**
      * Checks if this timeslot is equal to another object.
+     * Each slot has a single instance, so equal timeslots are the same object.
      *
      * @param object The object to compare with.
-     * @return       True if the object is a timeslot with the same hour and minute; otherwise false.
+     * @return       True if the object is this timeslot; otherwise false.
      */
     @Override
     public boolean equals(Object object) {
-        if (object instanceof Timeslot) {
-            Timeslot slot = (Timeslot) object;
-            return this.hour == slot.hour && this.minute == slot.minute;
-        }
-        return false;
+        return this == object;
+    }
+
+    /**
+     * Returns a hash code consistent with equals, based on the minute of the day.
+     *
+     * @return The hash code of the timeslot.
+     */
+    @Override
+    public int hashCode() {
+        return this.hour * 60 + this.minute;
     }
 
     /**
@@ -83,12 +154,6 @@ public class Timeslot implements Comparable<Timeslot> {
      */
     @Override
     public String toString() {
-        String minuteString = String.format("%02d", this.minute);
-        String period = (this.hour < 12) ? "AM" : "PM";
-        int displayHour = this.hour % 12;
-        if (displayHour == 0) {
-            displayHour = 12;
-        }
-        return displayHour + ":" + minuteString + " " + period;
+        return this.name;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Profile;
+import com.example.ruclinicgui.clinic.src.Timeslot;
+
+/**
+ * The AppointmentKeyIndex class indexes appointments by their (patient profile, date, timeslot) key.
+ * It is an open-addressing hash table with linear probing, so looking up the appointment a patient
+ * holds at a given date and time is a constant-time probe instead of a walk over every appointment.
+ * Several appointments may share a key; lookups return the earliest one still indexed.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class AppointmentKeyIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private Appointment[] table;
+    private int size;
+
+    /**
+     * Default constructor: Initializes an empty index.
+     */
+    public AppointmentKeyIndex() {
+        table = new Appointment[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Method: Computes the hash of an appointment key.
+     *
+     * @param profile  The patient's profile.
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @return The hash of the key.
+     */
+    private static int keyHash(Profile profile, Date date, Timeslot timeslot) {
+        int h = (31 * profile.hashCode() + date.hashCode()) * 31 + timeslot.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Method: Computes the home slot of an indexed appointment.
+     *
+     * @param appt The appointment to locate.
+     * @return The first slot to probe for the appointment.
+     */
+    private int homeSlot(Appointment appt) {
+        return keyHash(appt.getProfile().getProfile(), appt.getDate(), appt.getTimeslot()) & (table.length - 1);
+    }
+
+    /**
+     * Method: Checks whether an appointment matches a key.
+     *
+     * @param appt     The appointment to check.
+     * @param profile  The patient's profile.
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @return true if the appointment has the given key, false otherwise.
+     */
+    private static boolean matches(Appointment appt, Profile profile, Date date, Timeslot timeslot) {
+        return appt.getProfile().getProfile().equals(profile)
+                && appt.getDate().equals(date)
+                && appt.getTimeslot().equals(timeslot);
+    }
+
+    /**
+     * Method: Adds an appointment to the index.
+     *
+     * @param appt The appointment to add.
+     */
+    public void put(Appointment appt) {
+        if ((size + 1) * 2 > table.length) {
+            resize();
+        }
+        int mask = table.length - 1;
+        int slot = homeSlot(appt);
+        while (table[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = appt;
+        size++;
+    }
+
+    /**
+     * Method: Adds several appointments to the index, growing the table once for all of them.
+     *
+     * @param appts The appointments to add.
+     */
+    public void putAll(Appointment[] appts) {
+        while ((size + appts.length) * 2 > table.length) {
+            resize();
+        }
+        for (Appointment appt : appts) {
+            put(appt);
+        }
+    }
+
+    /**
+     * Method: Removes an appointment from the index.
+     * The appointment must still have the date and timeslot it was added with.
+     *
+     * @param appt The appointment to remove.
+     * @return true if the appointment was indexed, false otherwise.
+     */
+    public boolean remove(Appointment appt) {
+        int mask = table.length - 1;
+        for (int slot = homeSlot(appt); table[slot] != null; slot = (slot + 1) & mask) {
+            if (table[slot] == appt) {
+                clearSlot(slot);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method: Finds the appointment a patient holds at a date and timeslot.
+     *
+     * @param profile  The patient's profile.
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @return The matching appointment, or null if there is none.
+     */
+    public Appointment get(Profile profile, Date date, Timeslot timeslot) {
+        if (profile == null || date == null || timeslot == null) {
+            return null;
+        }
+        int mask = table.length - 1;
+        for (int slot = keyHash(profile, date, timeslot) & mask; table[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(table[slot], profile, date, timeslot)) {
+                return table[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method: Checks whether a patient holds an appointment at a date and timeslot.
+     *
+     * @param profile  The patient's profile.
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @return true if such an appointment is indexed, false otherwise.
+     */
+    public boolean contains(Profile profile, Date date, Timeslot timeslot) {
+        return get(profile, date, timeslot) != null;
+    }
+
+    /**
+     * Method: Returns the number of indexed appointments.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method: Removes every appointment from the index.
+     */
+    public void clear() {
+        table = new Appointment[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Method: Empties a slot, shifting later entries of the probe run back so that
+     * every remaining entry stays reachable and keeps its relative order.
+     *
+     * @param slot The slot to empty.
+     */
+    private void clearSlot(int slot) {
+        int mask = table.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next] != null; next = (next + 1) & mask) {
+            int home = homeSlot(table[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = null;
+    }
+
+    /**
+     * Method: Doubles the table, reinserting entries starting after an empty slot
+     * so that appointments sharing a key keep their insertion order.
+     */
+    private void resize() {
+        Appointment[] old = table;
+        int start = 0;
+        while (old[start] != null) {
+            start++;
+        }
+        table = new Appointment[old.length * 2];
+        int mask = table.length - 1;
+        for (int i = 1; i <= old.length; i++) {
+            Appointment appt = old[(start + i) & (old.length - 1)];
+            if (appt != null) {
+                int slot = homeSlot(appt);
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = appt;
+            }
+        }
+    }
+}
@@ -0,0 +1,560 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Imaging;
+import com.example.ruclinicgui.clinic.src.Person;
+import com.example.ruclinicgui.clinic.src.Profile;
+import com.example.ruclinicgui.clinic.src.Provider;
+import com.example.ruclinicgui.clinic.src.Radiology;
+import com.example.ruclinicgui.clinic.src.Technician;
+import com.example.ruclinicgui.clinic.src.Timeslot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * The BookingLog class journals every change to the appointment book as a compact binary record,
+ * and replays the journal to rebuild the book when the providers are loaded again.
+ * The journal is a numbered series of segment files; a checkpoint starts a new segment, so the segments before it
+ * can be deleted once a snapshot covers them.
+ * Providers are written as their position in the roster, so a journal can only be replayed against the roster it was
+ * written for; the first record of every segment holds a fingerprint of that roster.
+ * Positions are counted with repeated providers left out, the same way when writing and when replaying.
+ * Patients are written by name and date of birth, and dates as packed ints.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class BookingLog implements Closeable {
+    private static final int MAGIC = 0x52554342;
+    private static final byte VERSION = 1;
+    private static final byte HEADER = 'H';
+    private static final byte BOOKED = 'B';
+    private static final byte CANCELED = 'C';
+    private static final byte RESCHEDULED = 'R';
+    private static final byte OFFICE = 0;
+    private static final byte IMAGING = 1;
+    private static final int NO_PROVIDER = -1;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+    private final Path base;
+    private final List<Provider> ids;
+    private final int fingerprint;
+    private volatile Journal journal;
+    private volatile long segment;
+    private volatile long segmentStarted;
+    private volatile long segmentChanges;
+
+    /**
+     * Receives the changes to the appointment book as a journal is replayed.
+     */
+    public interface Listener {
+        /**
+         * Method: An appointment was booked.
+         *
+         * @param appointment The appointment.
+         * @param next        For an imaging appointment, the technician the rotation moved to; otherwise null.
+         */
+        void booked(Appointment appointment, Technician next);
+
+        /**
+         * Method: The appointment a patient held at a date and timeslot was canceled.
+         *
+         * @param patient  The patient's profile.
+         * @param date     The date of the appointment.
+         * @param timeslot The timeslot of the appointment.
+         */
+        void canceled(Profile patient, Date date, Timeslot timeslot);
+
+        /**
+         * Method: The appointment a patient held at a date and timeslot was moved to another timeslot that day.
+         *
+         * @param patient The patient's profile.
+         * @param date    The date of the appointment.
+         * @param from    The timeslot the appointment was moved from.
+         * @param to      The timeslot the appointment was moved to.
+         */
+        void rescheduled(Profile patient, Date date, Timeslot from, Timeslot to);
+    }
+
+    /**
+     * Constructs a booking log for a series of journal segments.
+     *
+     * @param base        The journal path; segment files are named after it.
+     * @param ids         The providers in roster order, indexed for finding their positions.
+     * @param fingerprint The fingerprint of the roster.
+     */
+    private BookingLog(Path base, List<Provider> ids, int fingerprint) {
+        this.base = base;
+        this.ids = ids;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Method: Replays the whole booking journal, if there is one, then opens it for appending.
+     * A journal written for a different roster is not replayed, and an IOException is thrown instead.
+     *
+     * @param base     The journal path; segment files are named after it.
+     * @param roster   The providers in roster order.
+     * @param listener Receives the changes recorded in the journal, in order.
+     * @return The booking log, ready to record new changes.
+     * @throws IOException if the journal cannot be read or written, or belongs to a different roster.
+     */
+    public static BookingLog open(Path base, Provider[] roster, Listener listener) throws IOException {
+        return open(base, roster, 0, listener);
+    }
+
+    /**
+     * Method: Replays the journal segments that a snapshot does not cover, then opens the last one for appending.
+     * A segment that ends in a torn record is replayed up to that record and replay stops there, so the rebuilt book
+     * is always a prefix of its history; any later segments are set aside with a ".discarded" suffix
+     * and the torn segment is appended to from the end of its valid records.
+     * If a segment the snapshot does not cover is missing, for instance because the snapshot that covered it
+     * could not be read, nothing is replayed and no file is touched, and an IOException is thrown instead.
+     *
+     * @param base         The journal path; segment files are named after it.
+     * @param roster       The providers in roster order.
+     * @param firstSegment The first segment the snapshot does not cover, or 0 to replay the whole journal.
+     * @param listener     Receives the changes recorded in the segments, in order.
+     * @return The booking log, ready to record new changes.
+     * @throws IOException if the journal cannot be read or written, belongs to a different roster,
+     *                     or is missing a segment.
+     */
+    public static BookingLog open(Path base, Provider[] roster, long firstSegment, Listener listener)
+            throws IOException {
+        List<Provider> ids = new List<>(true);
+        ids.addAll(roster);
+        int fingerprint = fingerprint(roster);
+        long[] numbers = segments(base);
+        long expected = firstSegment;
+        for (long number : numbers) {
+            if (number < firstSegment) {
+                continue;
+            }
+            if (number != expected) {
+                throw new IOException("Booking journal segment " + expected + " is missing.");
+            }
+            expected++;
+        }
+        long last = firstSegment;
+        long lastLength = 0;
+        boolean torn = false;
+        for (long number : numbers) {
+            if (number < firstSegment) {
+                continue;
+            }
+            Path path = segmentPath(base, number);
+            if (torn) {
+                Files.move(path, path.resolveSibling(path.getFileName() + ".discarded"),
+                        StandardCopyOption.REPLACE_EXISTING);
+                continue;
+            }
+            boolean[] headerSeen = {false};
+            lastLength = Journal.replay(path, record -> {
+                if (!headerSeen[0]) {
+                    readHeader(record, fingerprint);
+                    headerSeen[0] = true;
+                } else {
+                    replay(record, ids, listener);
+                }
+            });
+            last = number;
+            torn = lastLength < Files.size(path);
+        }
+        BookingLog log = new BookingLog(base, ids, fingerprint);
+        log.startSegment(last, lastLength, null);
+        return log;
+    }
+
+    /**
+     * Method: Records a booked appointment.
+     *
+     * @param appointment The appointment.
+     * @param next        For an imaging appointment, the technician the rotation moved to; otherwise null.
+     * @return true if the change was journaled, false if the journal has failed and changes are no longer saved.
+     */
+    public boolean booked(Appointment appointment, Technician next) {
+        Profile patient = appointment.getProfile().getProfile();
+        ByteBuffer record = patientRecord(BOOKED, patient, appointment.getDate(), appointment.getTimeslot(), 16);
+        record.putInt(ids.indexOf(appointment.getProvider()));
+        if (appointment instanceof Imaging) {
+            record.put(IMAGING).put((byte) ((Imaging) appointment).getRoom().ordinal())
+                    .putInt(next == null ? NO_PROVIDER : ids.indexOf(next));
+        } else {
+            record.put(OFFICE);
+        }
+        return append(record.flip());
+    }
+
+    /**
+     * Method: Records a canceled appointment.
+     *
+     * @param appointment The appointment.
+     * @return true if the change was journaled, false if the journal has failed and changes are no longer saved.
+     */
+    public boolean canceled(Appointment appointment) {
+        return append(patientRecord(CANCELED, appointment.getProfile().getProfile(), appointment.getDate(),
+                appointment.getTimeslot(), 0).flip());
+    }
+
+    /**
+     * Method: Records an appointment moved to another timeslot on the same day.
+     *
+     * @param appointment The appointment, still at its old timeslot.
+     * @param to          The timeslot it is moved to.
+     * @return true if the change was journaled, false if the journal has failed and changes are no longer saved.
+     */
+    public boolean rescheduled(Appointment appointment, Timeslot to) {
+        return append(patientRecord(RESCHEDULED, appointment.getProfile().getProfile(), appointment.getDate(),
+                appointment.getTimeslot(), 1).put((byte) to.ordinal()).flip());
+    }
+
+    /**
+     * Method: Returns the number of the segment new changes are appended to.
+     *
+     * @return The segment number.
+     */
+    public long segment() {
+        return segment;
+    }
+
+    /**
+     * Method: Returns the length of the current segment, counting changes not yet on disk.
+     *
+     * @return The length in bytes.
+     */
+    public long segmentLength() {
+        return journal.size();
+    }
+
+    /**
+     * Method: Returns how long ago the current segment was started.
+     *
+     * @return The age of the segment in milliseconds.
+     */
+    public long segmentAgeMillis() {
+        return (System.nanoTime() - segmentStarted) / 1_000_000;
+    }
+
+    /**
+     * Method: Returns the number of changes recorded in the current segment.
+     *
+     * @return The number of changes.
+     */
+    public long segmentChanges() {
+        return segmentChanges;
+    }
+
+    /**
+     * Method: Starts a new segment for the changes recorded from now on. Must be called on the thread
+     * that records changes, so every change lands on one side of the cut.
+     * The previous segment is handed back still open; closing it writes out its last changes.
+     * The new segment syncs nothing before the previous one is on disk, so the segments stay in write-ahead order.
+     *
+     * @return The previous segment.
+     * @throws IOException if the new segment cannot be created.
+     */
+    Journal rotate() throws IOException {
+        Journal previous = journal;
+        startSegment(segment + 1, 0, previous);
+        return previous;
+    }
+
+    /**
+     * Method: Deletes the segments before a segment, once a snapshot covers them.
+     *
+     * @param number The first segment to keep.
+     * @throws IOException if a segment cannot be deleted.
+     */
+    void deleteSegmentsBefore(long number) throws IOException {
+        for (long older : segments(base)) {
+            if (older < number) {
+                Files.deleteIfExists(segmentPath(base, older));
+            }
+        }
+    }
+
+    /**
+     * Method: Returns the error that stopped the current segment's writer, after which no changes are saved.
+     *
+     * @return The error, or null if the journal has not failed.
+     */
+    public IOException failure() {
+        return journal.failure();
+    }
+
+    /**
+     * Method: Waits until every change recorded so far is on disk.
+     *
+     * @throws IOException if the journal could not be written.
+     */
+    public void flush() throws IOException {
+        journal.flush();
+    }
+
+    /**
+     * Method: Writes out every recorded change and closes the journal.
+     *
+     * @throws IOException if the journal could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    /**
+     * Method: Opens a segment for appending, writing its header if the segment is new.
+     *
+     * @param number      The segment number.
+     * @param length      The length of the valid records already in the segment.
+     * @param predecessor The segment this one continues, which must be on disk first, or null.
+     * @throws IOException if the segment cannot be opened.
+     */
+    private void startSegment(long number, long length, Journal predecessor) throws IOException {
+        Journal opened = new Journal(segmentPath(base, number), length, predecessor);
+        if (length == 0) {
+            opened.append(ByteBuffer.allocate(14).put(HEADER).putInt(MAGIC).put(VERSION)
+                    .putInt(ids.size()).putInt(fingerprint).flip());
+        }
+        journal = opened;
+        segment = number;
+        segmentStarted = System.nanoTime();
+        segmentChanges = 0;
+    }
+
+    /**
+     * Method: Appends a change record to the current segment.
+     *
+     * @param record The record.
+     * @return true if the record was accepted by a journal that has not failed, false otherwise.
+     */
+    private boolean append(ByteBuffer record) {
+        Journal current = journal;
+        boolean accepted = current.append(record);
+        segmentChanges++;
+        return accepted && current.failure() == null;
+    }
+
+    /**
+     * Method: Returns the file of a journal segment.
+     *
+     * @param base   The journal path.
+     * @param number The segment number.
+     * @return The segment file.
+     */
+    private static Path segmentPath(Path base, long number) {
+        return base.resolveSibling(base.getFileName() + "." + number);
+    }
+
+    /**
+     * Method: Finds the segments of a journal.
+     *
+     * @param base The journal path.
+     * @return The segment numbers, in ascending order.
+     * @throws IOException if the directory cannot be listed.
+     */
+    private static long[] segments(Path base) throws IOException {
+        Path directory = base.toAbsolutePath().getParent();
+        String prefix = base.getFileName() + ".";
+        long[] found = new long[8];
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (suffix.isEmpty() || suffix.length() > 18 || !suffix.chars().allMatch(Character::isDigit)) {
+                    continue;
+                }
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = Long.parseLong(suffix);
+            }
+        }
+        found = Arrays.copyOf(found, count);
+        Arrays.sort(found);
+        return found;
+    }
+
+    /**
+     * Method: Starts a record about a patient's appointment at a date and timeslot.
+     *
+     * @param type     The record type.
+     * @param patient  The patient's profile.
+     * @param date     The date of the appointment.
+     * @param timeslot The timeslot of the appointment.
+     * @param extra    The number of bytes the caller will add after the patient.
+     * @return The record, positioned after the patient.
+     */
+    private static ByteBuffer patientRecord(byte type, Profile patient, Date date, Timeslot timeslot, int extra) {
+        byte[] first = nameBytes(patient.getFirstName());
+        byte[] last = nameBytes(patient.getLastName());
+        ByteBuffer record = ByteBuffer.allocate(18 + first.length + last.length + extra);
+        record.put(type).putInt(date.packed()).put((byte) timeslot.ordinal())
+                .putShort((short) first.length).put(first)
+                .putShort((short) last.length).put(last)
+                .putInt(patient.getDob().packed());
+        return record;
+    }
+
+    /**
+     * Method: Encodes a name as UTF-8, cut to the longest length a record can hold.
+     *
+     * @param name The name.
+     * @return The encoded name.
+     */
+    private static byte[] nameBytes(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) {
+            return bytes;
+        }
+        byte[] cut = new byte[MAX_NAME_BYTES];
+        System.arraycopy(bytes, 0, cut, 0, MAX_NAME_BYTES);
+        return cut;
+    }
+
+    /**
+     * Method: Reads a name written by nameBytes.
+     *
+     * @param record The record, positioned at the name.
+     * @return The name.
+     */
+    private static String readName(ByteBuffer record) {
+        byte[] bytes = new byte[record.getShort() & MAX_NAME_BYTES];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method: Checks the header record of a journal against the roster being loaded.
+     *
+     * @param record      The header record.
+     * @param fingerprint The fingerprint of the roster being loaded.
+     * @throws IOException if the journal is not a booking journal or belongs to a different roster.
+     */
+    private static void readHeader(ByteBuffer record, int fingerprint) throws IOException {
+        if (record.remaining() < 14 || record.get() != HEADER || record.getInt() != MAGIC) {
+            throw new IOException("Not a booking journal.");
+        }
+        if (record.get() != VERSION) {
+            throw new IOException("Unsupported booking journal version.");
+        }
+        record.getInt();
+        if (record.getInt() != fingerprint) {
+            throw new IOException("The booking journal was written for a different provider roster.");
+        }
+    }
+
+    /**
+     * Method: Decodes one change record and passes it to the listener.
+     *
+     * @param record   The record.
+     * @param ids      The providers in roster order, numbered as they were when the record was written.
+     * @param listener Receives the change.
+     * @throws IOException if the record is not understood.
+     */
+    private static void replay(ByteBuffer record, List<Provider> ids, Listener listener) throws IOException {
+        try {
+            decode(record, ids, listener);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated record in booking journal.", e);
+        }
+    }
+
+    /**
+     * Method: Decodes the fields of one change record and passes the change to the listener.
+     *
+     * @param record   The record.
+     * @param ids      The providers in roster order.
+     * @param listener Receives the change.
+     * @throws IOException if a field is not understood.
+     */
+    private static void decode(ByteBuffer record, List<Provider> ids, Listener listener) throws IOException {
+        byte type = record.get();
+        Date date = DateParser.toDate(record.getInt());
+        Timeslot timeslot = Timeslot.of(record.get());
+        String first = readName(record);
+        String last = readName(record);
+        Profile patient = Profile.of(first, last, DateParser.toDate(record.getInt()));
+        if (timeslot == null) {
+            throw new IOException("Bad timeslot in booking journal.");
+        }
+        switch (type) {
+            case BOOKED -> {
+                Provider provider = provider(ids, record.getInt());
+                if (record.get() == IMAGING) {
+                    int room = record.get();
+                    int next = record.getInt();
+                    if (!(provider instanceof Technician) || room < 0 || room >= Radiology.values().length) {
+                        throw new IOException("Bad imaging appointment in booking journal.");
+                    }
+                    listener.booked(new Imaging(date, timeslot, new Person(patient), provider, Radiology.values()[room]),
+                            next == NO_PROVIDER ? null : technician(ids, next));
+                } else {
+                    if (provider instanceof Technician) {
+                        throw new IOException("Bad office appointment in booking journal.");
+                    }
+                    listener.booked(new Appointment(date, timeslot, new Person(patient), provider), null);
+                }
+            }
+            case CANCELED -> listener.canceled(patient, date, timeslot);
+            case RESCHEDULED -> {
+                Timeslot to = Timeslot.of(record.get());
+                if (to == null) {
+                    throw new IOException("Bad timeslot in booking journal.");
+                }
+                listener.rescheduled(patient, date, timeslot, to);
+            }
+            default -> throw new IOException("Unknown booking journal record type " + type + ".");
+        }
+    }
+
+    /**
+     * Method: Returns the provider at a roster position.
+     *
+     * @param ids The providers in roster order.
+     * @param id  The roster position.
+     * @return The provider.
+     * @throws IOException if there is no provider at the position.
+     */
+    private static Provider provider(List<Provider> ids, int id) throws IOException {
+        if (id < 0 || id >= ids.size()) {
+            throw new IOException("Unknown provider " + id + " in booking journal.");
+        }
+        return ids.get(id);
+    }
+
+    /**
+     * Method: Returns the technician at a roster position.
+     *
+     * @param ids The providers in roster order.
+     * @param id  The roster position.
+     * @return The technician.
+     * @throws IOException if there is no technician at the position.
+     */
+    private static Technician technician(List<Provider> ids, int id) throws IOException {
+        Provider provider = provider(ids, id);
+        if (!(provider instanceof Technician)) {
+            throw new IOException("Provider " + id + " in booking journal is not a technician.");
+        }
+        return (Technician) provider;
+    }
+
+    /**
+     * Method: Summarizes a roster, so a journal written for one roster is not replayed against another.
+     *
+     * @param roster The providers in roster order.
+     * @return The fingerprint of the roster.
+     */
+    static int fingerprint(Provider[] roster) {
+        int h = roster.length;
+        for (Provider provider : roster) {
+            h = 31 * h + provider.toString().hashCode();
+        }
+        return h;
+    }
+}
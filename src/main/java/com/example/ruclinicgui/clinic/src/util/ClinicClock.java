@@ -0,0 +1,111 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * The ClinicClock class tells the date checks what day it is and how far ahead appointments can be booked.
+ * Today's date and the last bookable date are worked out once per calendar day and cached until midnight,
+ * so validating a date does not read the calendar every time.
+ * The clock it reads from can be replaced, which makes date checks repeatable in tests and benchmarks.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public final class ClinicClock {
+    private static final int MONTHS_IN_WINDOW = 6;
+    private static volatile ClinicClock current = new ClinicClock(Clock.systemDefaultZone());
+    private final Clock clock;
+    private volatile Window window;
+
+    /**
+     * The booking window for one calendar day.
+     */
+    private static final class Window {
+        final Date today;
+        final Date lastBookable;
+        final long start;
+        final long end;
+
+        /**
+         * Constructs the booking window for a day.
+         *
+         * @param today        The day.
+         * @param lastBookable The last day appointments can be booked for.
+         * @param start        The first millisecond of the day.
+         * @param end          The first millisecond of the next day.
+         */
+        Window(Date today, Date lastBookable, long start, long end) {
+            this.today = today;
+            this.lastBookable = lastBookable;
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /**
+     * Constructs a clinic clock reading the time and time zone of a clock.
+     *
+     * @param clock The clock to read.
+     */
+    public ClinicClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Method: Returns the clinic clock the date checks read.
+     *
+     * @return The current clinic clock.
+     */
+    public static ClinicClock current() {
+        return current;
+    }
+
+    /**
+     * Method: Replaces the clinic clock the date checks read, for example with one reading a fixed clock.
+     *
+     * @param clinicClock The clinic clock to use.
+     */
+    public static void setCurrent(ClinicClock clinicClock) {
+        current = clinicClock;
+    }
+
+    /**
+     * Method: Returns today's date.
+     *
+     * @return Today's date.
+     */
+    public Date today() {
+        return window().today;
+    }
+
+    /**
+     * Method: Returns the last date appointments can be booked for: the same day six months from today,
+     * or the last day of that month if it is shorter.
+     *
+     * @return The last bookable date.
+     */
+    public Date lastBookable() {
+        return window().lastBookable;
+    }
+
+    /**
+     * Method: Returns the booking window for the current day, working it out again once the day has changed.
+     *
+     * @return The booking window.
+     */
+    private Window window() {
+        long now = clock.millis();
+        Window cached = window;
+        if (cached != null && now >= cached.start && now < cached.end) {
+            return cached;
+        }
+        LocalDate day = LocalDate.now(clock);
+        LocalDate lastBookable = day.plusMonths(MONTHS_IN_WINDOW);
+        cached = new Window(
+                new Date(day.getYear(), day.getMonthValue(), day.getDayOfMonth()),
+                new Date(lastBookable.getYear(), lastBookable.getMonthValue(), lastBookable.getDayOfMonth()),
+                day.atStartOfDay(clock.getZone()).toInstant().toEpochMilli(),
+                day.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli());
+        window = cached;
+        return cached;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The Compactor class keeps the booking journal short by checkpointing it in the background.
+ * A checkpoint starts a new journal segment and captures a snapshot at the same instant, on the thread that
+ * records changes; the old segment is then closed, the snapshot written and the covered segments deleted on
+ * the compactor's own thread, so recording changes never waits for the disk.
+ * A checkpoint is due once the current segment grows past a size, or once it holds changes and is older than an age,
+ * which bounds both the journal on disk and the time it takes to replay it.
+ * A checkpoint that fails is reported the first time, and again only once a later checkpoint has succeeded.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class Compactor implements Closeable {
+    private static final long CHECK_INTERVAL_MILLIS = 1000;
+    private final BookingLog log;
+    private final Path snapshotPath;
+    private final Executor owner;
+    private final Capture capture;
+    private final Failures failures;
+    private final long maxSegmentBytes;
+    private final long maxSegmentAgeMillis;
+    private final ScheduledExecutorService background;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    /**
+     * Copies the state of the clinic into a snapshot.
+     */
+    public interface Capture {
+        /**
+         * Method: Captures a snapshot. Called on the thread that records changes.
+         *
+         * @param journalSegment The journal segment that was just started.
+         * @return The snapshot.
+         */
+        Snapshot capture(long journalSegment);
+    }
+
+    /**
+     * Receives checkpoints that could not be completed.
+     */
+    public interface Failures {
+        /**
+         * Method: Reports a failed checkpoint. May be called on any thread.
+         *
+         * @param cause The reason the checkpoint failed.
+         */
+        void failed(IOException cause);
+    }
+
+    /**
+     * Constructor: Starts checkpointing a booking journal in the background.
+     *
+     * @param log                 The booking journal.
+     * @param snapshotPath        The file the snapshots are written to.
+     * @param owner               Runs tasks on the thread that records changes.
+     * @param capture             Captures a snapshot of the clinic.
+     * @param failures            Receives checkpoints that failed.
+     * @param maxSegmentBytes     The segment length that makes a checkpoint due.
+     * @param maxSegmentAgeMillis The segment age that makes a checkpoint due, if the segment holds any changes.
+     */
+    public Compactor(BookingLog log, Path snapshotPath, Executor owner, Capture capture, Failures failures,
+                     long maxSegmentBytes, long maxSegmentAgeMillis) {
+        this.log = log;
+        this.snapshotPath = snapshotPath;
+        this.owner = owner;
+        this.capture = capture;
+        this.failures = failures;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegmentAgeMillis = maxSegmentAgeMillis;
+        this.background = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, Math.min(CHECK_INTERVAL_MILLIS, maxSegmentAgeMillis));
+        this.background.scheduleWithFixedDelay(this::checkDue, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Method: Asks for a checkpoint as soon as possible, unless one is already under way.
+     */
+    public void requestCheckpoint() {
+        if (running.compareAndSet(false, true)) {
+            owner.execute(this::checkpoint);
+        }
+    }
+
+    /**
+     * Method: Stops checkpointing, letting a checkpoint that is under way finish first.
+     */
+    @Override
+    public void close() {
+        background.shutdown();
+        try {
+            background.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Method: Requests a checkpoint if the current segment has grown too large or too old.
+     */
+    private void checkDue() {
+        if (log.segmentChanges() == 0) {
+            return;
+        }
+        if (log.segmentLength() >= maxSegmentBytes || log.segmentAgeMillis() >= maxSegmentAgeMillis) {
+            requestCheckpoint();
+        }
+    }
+
+    /**
+     * Method: Cuts the journal and captures the matching snapshot, then hands the slow part to the background.
+     * Runs on the thread that records changes.
+     */
+    private void checkpoint() {
+        if (background.isShutdown()) {
+            running.set(false);
+            return;
+        }
+        Journal previous;
+        try {
+            previous = log.rotate();
+        } catch (IOException e) {
+            running.set(false);
+            report(e);
+            return;
+        }
+        long segment = log.segment();
+        Snapshot snapshot = capture.capture(segment);
+        try {
+            background.execute(() -> finish(previous, snapshot, segment));
+        } catch (RejectedExecutionException e) {
+            finish(previous, snapshot, segment);
+        }
+    }
+
+    /**
+     * Method: Writes out the old segment and the snapshot, then deletes the segments the snapshot covers.
+     * The segments are only deleted once the snapshot is safely on disk.
+     *
+     * @param previous The segment that was cut off.
+     * @param snapshot The snapshot taken at the cut.
+     * @param segment  The first segment the snapshot does not cover.
+     */
+    private void finish(Journal previous, Snapshot snapshot, long segment) {
+        try {
+            previous.close();
+            snapshot.write(snapshotPath);
+            log.deleteSegmentsBefore(segment);
+            failing.set(false);
+        } catch (IOException e) {
+            report(e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Method: Reports a failed checkpoint, unless the checkpoint before it failed too.
+     *
+     * @param cause The reason the checkpoint failed.
+     */
+    private void report(IOException cause) {
+        if (failing.compareAndSet(false, true)) {
+            failures.failed(cause);
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.ruclinicgui.clinic.src.util;
 
-import java.util.Calendar;
-
 /**
  * The clinic.src.util.Date class represents a specific date with year, month, and day.
  * It provides methods to validate the date, check its properties,
@@ -10,15 +8,38 @@ import java.util.Calendar;
  * @author Nithya Konduru, Dhyanashri Raman
  */
 public class Date implements Comparable<Date> {
-    private int year;
-    private int month;
-    private int day;
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int hash;
+    private final int key;
+    private final boolean packable;
+    private final int epochDay;
     public static final int QUADRENNIAL = 4;
     public static final int CENTENNIAL = 100;
     public static final int QUATERCENTENNIAL = 400;
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int YEARS_PER_ERA = 400;
+    private static final int EPOCH_SHIFT = 719468;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int EPOCH_WEEKDAY = 4;
+    private static final int SUNDAY = 0;
+    private static final int SATURDAY = 6;
+    private static final InternPool<Date> POOL = new InternPool<>(new InternPool.Equivalence<Date>() {
+        @Override
+        public int hash(Date date) {
+            return date.epochDay;
+        }
+
+        @Override
+        public boolean same(Date first, Date second) {
+            return first.equals(second);
+        }
+    });
 
     /**
      * Constructor to initialize a clinic.src.util.Date object with a specific year, month, and day.
+     * The comparison key and the day count since 1/1/1970 are computed once here.
      *
      * @param year  The year of the date
      * @param month The month of the date (1-12)
@@ -28,6 +49,63 @@ public class Date implements Comparable<Date> {
         this.year = year;
         this.month = month;
         this.day = day;
+        this.hash = (31 * year + month) * 31 + day;
+        this.packable = year >= 0 && year < (1 << 22) && month >= 0 && month < 16 && day >= 0 && day < 32;
+        this.key = packable ? (year << 9) | (month << 5) | day : 0;
+        this.epochDay = toEpochDay(year, month, day);
+    }
+
+    /**
+     * Returns the shared instance of a calendar date, so every appointment and profile on the same day
+     * holds one Date. Dates that are not valid calendar dates are not shared.
+     *
+     * @param year  The year of the date
+     * @param month The month of the date (1-12)
+     * @param day   The day of the month
+     * @return the date
+     */
+    public static Date of(int year, int month, int day) {
+        Date date = new Date(year, month, day);
+        return date.isValidDate() ? POOL.intern(date) : date;
+    }
+
+    /**
+     * Counts the days from 1/1/1970 to a date in the proleptic Gregorian calendar.
+     * Months and days outside their usual range roll over into the neighbouring months and years.
+     *
+     * @param year  The year of the date
+     * @param month The month of the date
+     * @param day   The day of the month
+     * @return the number of days since 1/1/1970, negative for earlier dates
+     */
+    static int toEpochDay(int year, int month, int day) {
+        int y = year + Math.floorDiv(month - 1, 12);
+        int m = Math.floorMod(month - 1, 12) + 1;
+        y -= m <= 2 ? 1 : 0;
+        int era = Math.floorDiv(y, YEARS_PER_ERA);
+        int yearOfEra = y - era * YEARS_PER_ERA;
+        int dayOfYear = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - EPOCH_SHIFT;
+    }
+
+    /**
+     * Compares this date with another date given by its fields, field by field,
+     * for dates whose fields do not fit the packed key.
+     *
+     * @param otherYear  The year of the other date
+     * @param otherMonth The month of the other date
+     * @param otherDay   The day of the other date
+     * @return a negative integer, zero, or a positive integer as this date is before, the same as, or after the other
+     */
+    private int compareTo(int otherYear, int otherMonth, int otherDay) {
+        if (this.year != otherYear) {
+            return this.year < otherYear ? -1 : 1;
+        }
+        if (this.month != otherMonth) {
+            return this.month < otherMonth ? -1 : 1;
+        }
+        return Integer.compare(this.day, otherDay);
     }
 
     /**
@@ -93,16 +171,12 @@ public class Date implements Comparable<Date> {
     }
 
     /**
-     * Checks if the date is today's date.
+     * Checks if the date is today's date, as told by the clinic clock.
      *
      * @return true if the date is today, false otherwise
      */
     public boolean isToday() {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setLenient(false);
-        return (this.year == calendar.get(Calendar.YEAR)
-                && this.month == (calendar.get(Calendar.MONTH) + 1)
-                && this.day == calendar.get(Calendar.DAY_OF_MONTH));
+        return compareTo(ClinicClock.current().today()) == 0;
     }
 
     /**
@@ -111,48 +185,30 @@ public class Date implements Comparable<Date> {
      * @return true if the date is before today, false otherwise
      */
     public boolean isBeforeToday() {
-        Calendar today = Calendar.getInstance();
-        today.setLenient(false);
-        if (this.year < today.get(Calendar.YEAR)) {
-            return true;
-        } else if (this.year == today.get(Calendar.YEAR)) {
-            if (this.month < today.get(Calendar.MONTH) + 1) {
-                return true;
-            } else if (this.month == today.get(Calendar.MONTH) + 1) {
-                return this.day < today.get(Calendar.DAY_OF_MONTH);
-            }
-        }
-        return false;
+        return compareTo(ClinicClock.current().today()) < 0;
     }
 
     /**
      * Checks if the date falls on a weekend (Saturday or Sunday).
+     * The weekday is worked out from the day count, since 1/1/1970 was a Thursday.
      *
      * @return true if the date is on a weekend, false otherwise
      */
     public boolean onWeekend() {
-        Calendar appointmentDate = new Calendar.Builder()
-                .setDate(this.year, this.month - 1, this.day)
-                .build();
-        int dayofweek = appointmentDate.get(Calendar.DAY_OF_WEEK);
-        return (dayofweek == Calendar.SATURDAY || dayofweek == Calendar.SUNDAY);
+        int dayOfWeek = Math.floorMod(this.epochDay + EPOCH_WEEKDAY, DAYS_PER_WEEK);
+        return dayOfWeek == SATURDAY || dayOfWeek == SUNDAY;
     }
 
     /**
-     * Checks if the date is within six months from the current date.
+     * Checks if the date is within six months from the current date:
+     * after today, and no later than the same day six months from now,
+     * or the last day of that month if it is shorter.
      *
      * @return true if the date is within six months, false otherwise
      */
     public boolean isWithinSixMonths() {
-        Calendar today = Calendar.getInstance();
-        today.setLenient(false);
-        Calendar appointmentDate = new Calendar.Builder()
-                .setDate(this.year, this.month - 1, this.day)
-                .build();
-        Calendar sixMonthsLater = Calendar.getInstance();
-        sixMonthsLater.setLenient(false);
-        sixMonthsLater.add(Calendar.MONTH, 6);
-        return !appointmentDate.before(today) && !appointmentDate.after(sixMonthsLater);
+        ClinicClock clock = ClinicClock.current();
+        return compareTo(clock.today()) > 0 && compareTo(clock.lastBookable()) <= 0;
     }
 
     /**
@@ -161,12 +217,7 @@ public class Date implements Comparable<Date> {
      * @return true if the date is in the future, false otherwise
      */
     public boolean isFutureDate() {
-        Calendar currentDate = Calendar.getInstance();
-        currentDate.setLenient(false);
-        Calendar date = new Calendar.Builder()
-                .setDate(this.year, this.month - 1, this.day)
-                .build();
-        return date.after(currentDate);
+        return compareTo(ClinicClock.current().today()) > 0;
     }
 
     @Override
@@ -179,25 +230,10 @@ public class Date implements Comparable<Date> {
      * @return comparison result as an integer
      */
     public int compareTo(Date o) {
-        int yearComparison = this.year - o.year;
-        int monthComparison = this.month - o.month;
-        int dayComparison = this.day - o.day;
-        if (yearComparison > 0) {
-            return 1;
-        } else if (yearComparison < 0) {
-            return -1;
-        }
-        if (monthComparison > 0) {
-            return 1;
-        } else if (monthComparison < 0) {
-            return -1;
-        }
-        if (dayComparison > 0) {
-            return 1;
-        } else if (dayComparison < 0) {
-            return -1;
+        if (this.packable && o.packable) {
+            return Integer.compare(this.key, o.key);
         }
-        return 0;
+        return compareTo(o.year, o.month, o.day);
     }
 
     @Override
@@ -209,8 +245,14 @@ public class Date implements Comparable<Date> {
      * @return true if the dates are equal, false otherwise
      */
     public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
         if (o instanceof Date) {
             Date dateEx = (Date) o;
+            if (this.packable && dateEx.packable) {
+                return this.key == dateEx.key;
+            }
             return this.year == dateEx.year
                     && this.month == dateEx.month
                     && this.day == dateEx.day;
@@ -218,6 +260,16 @@ public class Date implements Comparable<Date> {
         return false;
     }
 
+    @Override
+    /**
+     * Returns a hash code consistent with equals, computed once at construction.
+     *
+     * @return the hash code of the date
+     */
+    public int hashCode() {
+        return this.hash;
+    }
+
     @Override
     /**
      * Returns a string representation of the date in MM/DD/YYYY format.
@@ -228,6 +280,25 @@ public class Date implements Comparable<Date> {
         return this.month + "/" + this.day + "/" + this.year;
     }
 
+    /**
+     * Returns the number of days from 1/1/1970 to the date, computed once at construction.
+     *
+     * @return the day count, negative for earlier dates
+     */
+    public int epochDay() {
+        return this.epochDay;
+    }
+
+    /**
+     * Packs the date into year, month and day bit fields.
+     * For calendar dates with a year below 2^22, packed values order the same way as compareTo.
+     *
+     * @return the packed date
+     */
+    public int packed() {
+        return this.packable ? this.key : (this.year << 9) | (this.month << 5) | this.day;
+    }
+
     /**
      * Gets the year of the date.
      *
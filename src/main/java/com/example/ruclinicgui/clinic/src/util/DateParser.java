@@ -0,0 +1,154 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The DateParser class reads dates written as M/D/YYYY, scanning the characters in place.
+ * A parsed date is returned as a packed int, laid out like Date.packed(), and a malformed date
+ * as ERROR, so parsing never splits strings, creates objects or throws.
+ * Each field is one or more digits; the fields are separated by single slashes with nothing before or after.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public final class DateParser {
+    /** Returned when the text is not a date in M/D/YYYY form. */
+    public static final int ERROR = -1;
+    private static final int MAX_DIGITS = 9;
+    private static final int MONTH_SHIFT = 5;
+    private static final int YEAR_SHIFT = 9;
+    private static final int MAX_YEAR = (1 << 22) - 1;
+    private static final int MAX_MONTH = 15;
+    private static final int MAX_DAY = 31;
+
+    /**
+     * Prevents instantiation; the class only has static methods.
+     */
+    private DateParser() {
+    }
+
+    /**
+     * Method: Parses a whole character sequence as a date.
+     *
+     * @param text The text to parse.
+     * @return The packed date, or ERROR if the text is not a date.
+     */
+    public static int parse(CharSequence text) {
+        return text == null ? ERROR : parse(text, 0, text.length());
+    }
+
+    /**
+     * Method: Parses part of a character sequence as a date.
+     *
+     * @param text  The text to parse.
+     * @param start The index of the first character, inclusive.
+     * @param end   The index of the last character, exclusive.
+     * @return The packed date, or ERROR if the characters are not a date.
+     */
+    public static int parse(CharSequence text, int start, int end) {
+        return scan(text, null, start, end);
+    }
+
+    /**
+     * Method: Parses a range of ASCII bytes as a date, without moving the buffer's position.
+     *
+     * @param bytes The buffer to read.
+     * @param start The index of the first byte, inclusive.
+     * @param end   The index of the last byte, exclusive.
+     * @return The packed date, or ERROR if the bytes are not a date.
+     */
+    public static int parse(ByteBuffer bytes, int start, int end) {
+        return scan(null, bytes, start, end);
+    }
+
+    /**
+     * Method: Parses a range of characters as a date, reading them from text or, if text is null, from ASCII bytes.
+     *
+     * @param text  The text to read, or null.
+     * @param bytes The buffer to read when there is no text.
+     * @param start The index of the first character, inclusive.
+     * @param end   The index of the last character, exclusive.
+     * @return The packed date, or ERROR if the characters are not a date.
+     */
+    private static int scan(CharSequence text, ByteBuffer bytes, int start, int end) {
+        int field = 0;
+        int value = 0;
+        int digits = 0;
+        int month = 0;
+        int day = 0;
+        for (int i = start; i < end; i++) {
+            char c = text != null ? text.charAt(i) : (char) (bytes.get(i) & 0xFF);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return ERROR;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c == '/' && digits > 0 && field < 2) {
+                if (field == 0) {
+                    month = value;
+                } else {
+                    day = value;
+                }
+                field++;
+                value = 0;
+                digits = 0;
+            } else {
+                return ERROR;
+            }
+        }
+        return field == 2 && digits > 0 ? pack(value, month, day) : ERROR;
+    }
+
+    /**
+     * Method: Packs the fields of a date, if they fit.
+     *
+     * @param year  The year.
+     * @param month The month.
+     * @param day   The day.
+     * @return The packed date, or ERROR if a field is too large to pack.
+     */
+    private static int pack(int year, int month, int day) {
+        if (year > MAX_YEAR || month > MAX_MONTH || day > MAX_DAY) {
+            return ERROR;
+        }
+        return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
+    }
+
+    /**
+     * Method: Returns the year of a packed date.
+     *
+     * @param packed The packed date.
+     * @return The year.
+     */
+    public static int year(int packed) {
+        return packed >>> YEAR_SHIFT;
+    }
+
+    /**
+     * Method: Returns the month of a packed date.
+     *
+     * @param packed The packed date.
+     * @return The month.
+     */
+    public static int month(int packed) {
+        return (packed >>> MONTH_SHIFT) & MAX_MONTH;
+    }
+
+    /**
+     * Method: Returns the day of a packed date.
+     *
+     * @param packed The packed date.
+     * @return The day.
+     */
+    public static int day(int packed) {
+        return packed & MAX_DAY;
+    }
+
+    /**
+     * Method: Returns the shared Date for a packed date.
+     *
+     * @param packed The packed date, not ERROR.
+     * @return The date.
+     */
+    public static Date toDate(int packed) {
+        return Date.of(year(packed), month(packed), day(packed));
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * The InternPool class keeps one shared instance of each distinct value, so values that are
+ * created over and over, such as the dates and patient profiles of returning patients, are stored once.
+ * Values are found through an open-addressing hash table with linear probing.
+ * The pool holds its instances weakly: once nothing else uses an instance it is collected,
+ * and its slot is taken by the next new value or dropped when the table is rebuilt,
+ * so the pool never grows past the values still in use.
+ * All methods are synchronized, so one pool can be shared between threads.
+ * Pooled values must not change after they are interned.
+ * @author Nithya Konduru, Dhyanashri Raman
+ * @param <T> The type of the pooled values
+ */
+public class InternPool<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    private final Equivalence<T> equivalence;
+    private WeakReference<T>[] table;
+    private int size;
+
+    /**
+     * Decides when two values are the same for interning, and hashes them consistently.
+     *
+     * @param <T> The type of the values
+     */
+    public interface Equivalence<T> {
+        /**
+         * Method: Hashes a value consistently with same.
+         *
+         * @param value The value to hash.
+         * @return The hash of the value.
+         */
+        int hash(T value);
+
+        /**
+         * Method: Checks whether two values can share one instance.
+         *
+         * @param first  The first value.
+         * @param second The second value.
+         * @return true if the values are interchangeable, false otherwise.
+         */
+        boolean same(T first, T second);
+    }
+
+    /**
+     * Constructor: Initializes an empty pool that treats values as the same when they are equal.
+     */
+    public InternPool() {
+        this(new Equivalence<T>() {
+            @Override
+            public int hash(T value) {
+                return value.hashCode();
+            }
+
+            @Override
+            public boolean same(T first, T second) {
+                return first.equals(second);
+            }
+        });
+    }
+
+    /**
+     * Constructor: Initializes an empty pool with its own notion of sameness.
+     *
+     * @param equivalence Decides when two values can share one instance.
+     */
+    public InternPool(Equivalence<T> equivalence) {
+        this.equivalence = equivalence;
+        this.table = newTable(INITIAL_CAPACITY);
+        this.size = 0;
+    }
+
+    /**
+     * Method: Returns the pooled instance that is the same as a value, pooling the value if there is none.
+     *
+     * @param value The value to intern.
+     * @return The shared instance.
+     */
+    public synchronized T intern(T value) {
+        int mask = table.length - 1;
+        int slot = spread(equivalence.hash(value)) & mask;
+        int collected = -1;
+        while (table[slot] != null) {
+            T pooled = table[slot].get();
+            if (pooled == null) {
+                if (collected < 0) {
+                    collected = slot;
+                }
+            } else if (pooled == value || equivalence.same(pooled, value)) {
+                return pooled;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (collected >= 0) {
+            table[collected] = new WeakReference<>(value);
+            return value;
+        }
+        table[slot] = new WeakReference<>(value);
+        size++;
+        if (size * 2 > table.length) {
+            rebuild();
+        }
+        return value;
+    }
+
+    /**
+     * Method: Returns the number of pooled instances that have not been collected.
+     *
+     * @return The number of pooled instances.
+     */
+    public synchronized int size() {
+        int live = 0;
+        for (WeakReference<T> reference : table) {
+            if (reference != null && reference.get() != null) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Method: Removes every instance from the pool.
+     */
+    public synchronized void clear() {
+        table = newTable(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Method: Rebuilds the table without the collected instances, doubling its capacity only if
+     * the instances still in use would fill more than a quarter of it.
+     */
+    private void rebuild() {
+        WeakReference<T>[] old = table;
+        int live = 0;
+        for (WeakReference<T> reference : old) {
+            if (reference != null && reference.get() != null) {
+                live++;
+            }
+        }
+        int capacity = INITIAL_CAPACITY;
+        while (live * 4 > capacity) {
+            capacity *= 2;
+        }
+        table = newTable(capacity);
+        size = 0;
+        int mask = capacity - 1;
+        for (WeakReference<T> reference : old) {
+            T pooled = reference == null ? null : reference.get();
+            if (pooled != null) {
+                int slot = spread(equivalence.hash(pooled)) & mask;
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = reference;
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Method: Creates an empty table.
+     *
+     * @param capacity The number of slots, a power of two.
+     * @return The table.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> WeakReference<T>[] newTable(int capacity) {
+        return (WeakReference<T>[]) new WeakReference[capacity];
+    }
+
+    /**
+     * Method: Scrambles a hash so that runs of consecutive hashes, such as the epoch days of nearby dates,
+     * land in scattered slots instead of one long cluster.
+     *
+     * @param h The hash.
+     * @return The spread hash.
+     */
+    private static int spread(int h) {
+        h *= GOLDEN_RATIO;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The Journal class is an append-only log of records on disk.
+ * Each record is framed by its length and a CRC-32 checksum, so a record torn by a crash is detected and dropped on replay.
+ * Appending only copies the record into a memory buffer; a background writer thread writes everything appended since
+ * its last write in one go and forces it to disk with a single fsync, so records that arrive together share one sync.
+ * A journal that continues another one syncs nothing until every record of the other is on disk, so a crash never
+ * keeps later records while losing earlier ones.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class Journal implements Closeable {
+    private static final int FRAME_HEADER = 8;
+    private static final int INITIAL_CAPACITY = 4096;
+    private final Path path;
+    private final FileChannel channel;
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private Journal predecessor;
+    private final Object lock = new Object();
+    private ByteBuffer pending;
+    private ByteBuffer writing;
+    private long appended;
+    private long durable;
+    private long size;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * Receives the records of a journal as it is replayed.
+     */
+    public interface RecordHandler {
+        /**
+         * Method: Handles one record.
+         *
+         * @param record The record, from its position to its limit.
+         * @throws IOException if the record cannot be understood.
+         */
+        void accept(ByteBuffer record) throws IOException;
+    }
+
+    /**
+     * Constructor: Opens a journal for appending, first cutting off anything after its valid records.
+     *
+     * @param path        The journal file, created if it does not exist.
+     * @param validLength The length of the valid records at the start of the file, as returned by replay.
+     * @throws IOException if the file cannot be opened.
+     */
+    public Journal(Path path, long validLength) throws IOException {
+        this(path, validLength, null);
+    }
+
+    /**
+     * Constructor: Opens a journal that continues another, first cutting off anything after its valid records.
+     * Records can be appended right away, but none are synced before every record appended to the
+     * other journal is on disk.
+     *
+     * @param path        The journal file, created if it does not exist.
+     * @param validLength The length of the valid records at the start of the file, as returned by replay.
+     * @param predecessor The journal this one continues, or null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public Journal(Path path, long validLength, Journal predecessor) throws IOException {
+        this.path = path;
+        this.predecessor = predecessor;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.channel.truncate(validLength);
+        this.channel.position(validLength);
+        this.size = validLength;
+        this.pending = ByteBuffer.allocate(INITIAL_CAPACITY);
+        this.writing = ByteBuffer.allocate(INITIAL_CAPACITY);
+        this.writer = new Thread(this::writeLoop, "journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+    }
+
+    /**
+     * Method: Reads the records of a journal in order, stopping at the end of the file
+     * or at the first record that is incomplete or fails its checksum.
+     * The file is read into memory rather than mapped, so it can be truncated or deleted right afterwards on every platform.
+     *
+     * @param path    The journal file.
+     * @param handler Receives each record.
+     * @return The length of the valid records at the start of the file, or 0 if the file does not exist.
+     * @throws IOException if the file cannot be read or the handler rejects a record.
+     */
+    public static long replay(Path path, RecordHandler handler) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = in.size();
+            if (fileSize == 0) {
+                return 0;
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("The journal is too large to replay.");
+            }
+            ByteBuffer bytes = ByteBuffer.allocate((int) fileSize);
+            while (bytes.hasRemaining()) {
+                if (in.read(bytes) < 0) {
+                    break;
+                }
+            }
+            bytes.flip();
+            CRC32 crc = new CRC32();
+            int offset = 0;
+            while (offset + FRAME_HEADER <= bytes.limit()) {
+                int length = bytes.getInt(offset);
+                int checksum = bytes.getInt(offset + 4);
+                int start = offset + FRAME_HEADER;
+                if (length < 0 || length > bytes.limit() - start) {
+                    break;
+                }
+                ByteBuffer record = bytes.duplicate();
+                record.limit(start + length).position(start);
+                crc.reset();
+                crc.update(record.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                handler.accept(record.slice());
+                offset = start + length;
+            }
+            return offset;
+        }
+    }
+
+    /**
+     * Method: Appends a record. It becomes durable shortly afterwards, once the writer thread syncs it.
+     *
+     * @param record The record, from its position to its limit.
+     * @return true if the record was accepted, false if the journal is closed or its writer has failed.
+     */
+    public boolean append(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.duplicate());
+        synchronized (lock) {
+            if (closed) {
+                return false;
+            }
+            int length = record.remaining();
+            if (pending.remaining() < FRAME_HEADER + length) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + FRAME_HEADER + length));
+                pending.flip();
+                grown.put(pending);
+                pending = grown;
+            }
+            pending.putInt(length).putInt((int) crc.getValue()).put(record.duplicate());
+            appended++;
+            size += FRAME_HEADER + length;
+            lock.notifyAll();
+            return true;
+        }
+    }
+
+    /**
+     * Method: Waits until every record appended so far is on disk.
+     *
+     * @throws IOException if the writer thread failed to write or sync.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            long target = appended;
+            while (durable < target && failure == null && writer.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while flushing the journal.", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Method: Returns the length of the journal, counting records not yet on disk.
+     *
+     * @return The length in bytes.
+     */
+    public long size() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    /**
+     * Method: Returns the error that stopped the writer thread, after which no more records are accepted.
+     *
+     * @return The error, or null if the journal has not failed.
+     */
+    public IOException failure() {
+        synchronized (lock) {
+            return failure;
+        }
+    }
+
+    /**
+     * Method: Returns the journal file.
+     *
+     * @return The path of the journal.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Method: Writes out every appended record, stops the writer thread and closes the file.
+     * A journal that is not closed explicitly is closed when the application exits.
+     *
+     * @throws IOException if the last records could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // The application is already shutting down and the hook is running or has run.
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Method: Runs the writer thread: waits for records, swaps buffers, then writes and syncs the batch
+     * while new records collect in the other buffer. The first batch waits for the predecessor to be on disk.
+     */
+    private void writeLoop() {
+        while (true) {
+            long batchEnd;
+            synchronized (lock) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                ByteBuffer swap = writing;
+                writing = pending;
+                pending = swap;
+                pending.clear();
+                batchEnd = appended;
+            }
+            try {
+                if (predecessor != null) {
+                    predecessor.flush();
+                    predecessor = null;
+                }
+                writing.flip();
+                while (writing.hasRemaining()) {
+                    channel.write(writing);
+                }
+                channel.force(false);
+                writing.clear();
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                    closed = true;
+                    lock.notifyAll();
+                }
+                return;
+            }
+            synchronized (lock) {
+                durable = batchEnd;
+                lock.notifyAll();
+            }
+        }
+    }
+}
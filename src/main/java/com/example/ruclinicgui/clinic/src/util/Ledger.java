@@ -0,0 +1,235 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+/**
+ * The Ledger class keeps a running total and an entry count for each key, such as the amount
+ * due from a patient or the credit owed to a provider.
+ * Keys are kept in the order they were first seen and are found through an open-addressing
+ * hash index, so posting an amount is a constant-time operation.
+ * Keys must override hashCode consistently with equals.
+ * @author Nithya Konduru, Dhyanashri Raman
+ * @param <K> The type of the keys in the ledger
+ */
+public class Ledger<K> {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int NOT_FOUND = -1;
+    private Object[] keys;
+    private long[] amounts;
+    private int[] counts;
+    private int[] table;
+    private int size;
+
+    /**
+     * Default constructor: Initializes an empty ledger.
+     */
+    public Ledger() {
+        keys = new Object[INITIAL_CAPACITY];
+        amounts = new long[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        table = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+    }
+
+    /**
+     * Method: Finds the position of a key in the ledger.
+     *
+     * @param key The key to find.
+     * @return The position of the key, or -1 if it has no entry.
+     */
+    private int find(Object key) {
+        int mask = table.length - 1;
+        int h = key.hashCode();
+        for (int slot = (h ^ (h >>> 16)) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[table[slot] - 1].equals(key)) {
+                return table[slot] - 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Method: Finds the position of a key, appending an empty entry for it if it has none.
+     *
+     * @param key The key to find.
+     * @return The position of the key.
+     */
+    private int entry(K key) {
+        int position = find(key);
+        if (position != NOT_FOUND) {
+            return position;
+        }
+        if (size == keys.length) {
+            grow();
+        }
+        keys[size] = key;
+        amounts[size] = 0;
+        counts[size] = 0;
+        size++;
+        if (size * 2 > table.length) {
+            rebuildIndex(table.length * 2);
+        } else {
+            insert(size - 1);
+        }
+        return size - 1;
+    }
+
+    /**
+     * Method: Adds the key at a position to the hash index.
+     *
+     * @param position The position of the key.
+     */
+    private void insert(int position) {
+        int mask = table.length - 1;
+        int h = keys[position].hashCode();
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = position + 1;
+    }
+
+    /**
+     * Method: Rebuilds the hash index with the given capacity.
+     *
+     * @param capacity The new capacity of the index, a power of two.
+     */
+    private void rebuildIndex(int capacity) {
+        table = new int[capacity];
+        for (int i = 0; i < size; i++) {
+            insert(i);
+        }
+    }
+
+    /**
+     * Method: Doubles the capacity of the entry arrays.
+     */
+    private void grow() {
+        Object[] newKeys = new Object[keys.length * 2];
+        long[] newAmounts = new long[keys.length * 2];
+        int[] newCounts = new int[keys.length * 2];
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        System.arraycopy(amounts, 0, newAmounts, 0, size);
+        System.arraycopy(counts, 0, newCounts, 0, size);
+        keys = newKeys;
+        amounts = newAmounts;
+        counts = newCounts;
+    }
+
+    /**
+     * Method: Gives a key an entry, with nothing posted, if it does not have one yet.
+     * Keys registered first come first in ledger order.
+     *
+     * @param key The key to register.
+     */
+    public void register(K key) {
+        entry(key);
+    }
+
+    /**
+     * Method: Posts an amount to a key and counts one more entry for it.
+     *
+     * @param key    The key to post to.
+     * @param amount The amount to add to the key's total.
+     */
+    public void post(K key, long amount) {
+        post(key, amount, 1);
+    }
+
+    /**
+     * Method: Posts the total of several entries to a key at once.
+     *
+     * @param key     The key to post to.
+     * @param amount  The amount to add to the key's total.
+     * @param entries The number of entries the amount covers.
+     */
+    public void post(K key, long amount, int entries) {
+        int position = entry(key);
+        amounts[position] += amount;
+        counts[position] += entries;
+    }
+
+    /**
+     * Method: Reverses an amount posted to a key and counts one less entry for it.
+     *
+     * @param key    The key to reverse.
+     * @param amount The amount to take off the key's total.
+     */
+    public void reverse(K key, long amount) {
+        int position = find(key);
+        if (position != NOT_FOUND) {
+            amounts[position] -= amount;
+            counts[position]--;
+        }
+    }
+
+    /**
+     * Method: Returns the total posted to a key.
+     *
+     * @param key The key to look up.
+     * @return The key's total, or 0 if it has no entry.
+     */
+    public long amountOf(K key) {
+        int position = find(key);
+        return position == NOT_FOUND ? 0 : amounts[position];
+    }
+
+    /**
+     * Method: Returns the number of entries posted to a key and not reversed.
+     *
+     * @param key The key to look up.
+     * @return The key's entry count, or 0 if it has no entry.
+     */
+    public int countOf(K key) {
+        int position = find(key);
+        return position == NOT_FOUND ? 0 : counts[position];
+    }
+
+    /**
+     * Method: Returns the number of keys in the ledger.
+     *
+     * @return The number of keys.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method: Returns the key at a position in ledger order.
+     *
+     * @param position The position of the key.
+     * @return The key at the position.
+     */
+    public K keyAt(int position) {
+        return (K) keys[position];
+    }
+
+    /**
+     * Method: Returns the total at a position in ledger order.
+     *
+     * @param position The position of the key.
+     * @return The total of the key at the position.
+     */
+    public long amountAt(int position) {
+        return amounts[position];
+    }
+
+    /**
+     * Method: Returns the entry count at a position in ledger order.
+     *
+     * @param position The position of the key.
+     * @return The entry count of the key at the position.
+     */
+    public int countAt(int position) {
+        return counts[position];
+    }
+
+    /**
+     * Method: Removes every key from the ledger.
+     */
+    public void clear() {
+        keys = new Object[INITIAL_CAPACITY];
+        amounts = new long[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        table = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+    }
+}
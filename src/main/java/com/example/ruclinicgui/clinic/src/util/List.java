@@ -6,20 +6,46 @@ import java.util.Iterator;
  * The List class is a generic container for storing elements of type E.
  * It provides basic list operations such as adding, removing, and checking for elements.
  * It also implements the Iterable interface to allow for iteration over its elements.
+ * An indexed list additionally keeps an open-addressing hash index from each element
+ * to its position, so contains, indexOf, add and remove locate elements in O(1)
+ * while get and set keep the usual positional ordering.
+ * Removing from an indexed list only leaves a hole where the element was; the holes are
+ * closed up in one pass the next time a position past the first of them is needed.
  * @author Nithya Konduru, Dhyanashri Raman
  * @param <E> The type of elements in this list
  */
 public class List<E> implements Iterable<E> {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int EMPTY = 0;
+    private static final int NO_HOLE = -1;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
     private E[] objects;
     private int size;
+    private int end;
+    private int firstHole = NO_HOLE;
+    private int[] table;
+    private int version;
     int NOT_FOUND = -1;
 
     /**
      * Default constructor: Initializes a List object with an initial capacity of 4.
      */
     public List() {
-        objects = (E[]) new Object[4];
+        this(false);
+    }
+
+    /**
+     * Constructor: Initializes a List object that optionally keeps a hash index of its elements.
+     * Elements of an indexed list must override hashCode consistently with equals.
+     *
+     * @param indexed true to back lookups with a hash index, false for linear scans
+     */
+    public List(boolean indexed) {
+        objects = (E[]) new Object[INITIAL_CAPACITY];
         size = 0;
+        if (indexed) {
+            table = new int[INITIAL_CAPACITY * 2];
+        }
     }
 
     /**
@@ -29,6 +55,13 @@ public class List<E> implements Iterable<E> {
      * @return The index of the element, or -1 if not found
      */
     private int find(E e) {
+        if (e == null) {
+            return NOT_FOUND;
+        }
+        if (table != null) {
+            int slot = findSlot(e);
+            return slot == NOT_FOUND ? NOT_FOUND : table[slot] - 1;
+        }
         for (int i = 0; i < size; i++) {
             if (objects[i].equals(e)) {
                 return i;
@@ -38,16 +71,185 @@ public class List<E> implements Iterable<E> {
     }
 
     /**
-     * Method: Increases the capacity of the internal array by 4.
+     * Method: Doubles the capacity of the internal array.
      */
     private void grow() {
-        E[] resizedArray = (E[]) new Object[objects.length + 4];
-        for (int i = 0; i < size; i++) {
-            resizedArray[i] = objects[i];
-        }
+        E[] resizedArray = (E[]) new Object[objects.length * 2];
+        System.arraycopy(objects, 0, resizedArray, 0, end);
         objects = resizedArray;
     }
 
+    /**
+     * Method: Closes up the holes left by removed elements, moving every later element back
+     * so that positions are contiguous again, and repoints their hash index entries.
+     */
+    private void compact() {
+        if (firstHole == NO_HOLE) {
+            return;
+        }
+        int to = firstHole;
+        for (int from = firstHole; from < end; from++) {
+            E e = objects[from];
+            if (e != null) {
+                int slot = findSlot(e, from);
+                if (slot != NOT_FOUND) {
+                    table[slot] = to + 1;
+                }
+                objects[to++] = e;
+            }
+        }
+        for (int i = to; i < end; i++) {
+            objects[i] = null;
+        }
+        end = size;
+        firstHole = NO_HOLE;
+    }
+
+    /**
+     * Method: Makes the position of an element the same as its place in the list,
+     * closing up the holes before it if there are any.
+     *
+     * @param index The position that is about to be used
+     */
+    private void settle(int index) {
+        if (firstHole != NO_HOLE && index >= firstHole) {
+            compact();
+        }
+    }
+
+    /**
+     * Method: Computes the home slot of an element in the hash index.
+     * The hash is scrambled first, so that runs of consecutive hashes land in scattered slots
+     * instead of one long probe run that every removal would have to walk.
+     *
+     * @param e The element to hash
+     * @return The first slot to probe for the element
+     */
+    private int homeSlot(Object e) {
+        int h = e.hashCode() * GOLDEN_RATIO;
+        return (h ^ (h >>> 16)) & (table.length - 1);
+    }
+
+    /**
+     * Method: Finds the hash index slot holding an element equal to the specified one.
+     *
+     * @param e The element to look up
+     * @return The slot referring to the element, or -1 if it is not indexed
+     */
+    private int findSlot(Object e) {
+        int mask = table.length - 1;
+        for (int slot = homeSlot(e); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (objects[table[slot] - 1].equals(e)) {
+                return slot;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Method: Finds the hash index slot referring to a given position.
+     *
+     * @param e     The element stored at the position
+     * @param index The position of the element in the list
+     * @return The slot referring to the position, or -1 if none does
+     */
+    private int findSlot(Object e, int index) {
+        int mask = table.length - 1;
+        for (int slot = homeSlot(e); table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (table[slot] == index + 1) {
+                return slot;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Method: Finds the empty hash index slot where a new element would be indexed,
+     * checking for an equal element in the same probe.
+     *
+     * @param e The element to index
+     * @return The empty slot, or -1 if an equal element is already indexed
+     */
+    private int freeSlot(Object e) {
+        int mask = table.length - 1;
+        int slot = homeSlot(e);
+        for (; table[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (objects[table[slot] - 1].equals(e)) {
+                return NOT_FOUND;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Method: Points the hash index entry for the element at the given position,
+     * replacing any entry for an equal element.
+     *
+     * @param index The position of the element in the list
+     */
+    private void indexPosition(int index) {
+        E e = objects[index];
+        int mask = table.length - 1;
+        int slot = homeSlot(e);
+        while (table[slot] != EMPTY && !objects[table[slot] - 1].equals(e)) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /**
+     * Method: Empties a hash index slot, shifting later entries of the probe run back
+     * so that every remaining entry stays reachable from its home slot.
+     *
+     * @param slot The slot to empty
+     */
+    private void clearSlot(int slot) {
+        int mask = table.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeSlot(objects[table[next] - 1]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                hole = next;
+            }
+        }
+        table[hole] = EMPTY;
+    }
+
+    /**
+     * Method: Rebuilds the hash index from scratch, doubling its capacity when it is half full.
+     */
+    private void rebuildIndex() {
+        rebuildIndex(size);
+    }
+
+    /**
+     * Method: Rebuilds the hash index from scratch with room for a number of elements
+     * before it is half full.
+     *
+     * @param expectedSize The number of elements the index should hold without growing
+     */
+    private void rebuildIndex(int expectedSize) {
+        int capacity = table.length;
+        while (expectedSize * 2 > capacity) {
+            capacity *= 2;
+        }
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < end; i++) {
+            if (objects[i] == null) {
+                continue;
+            }
+            int slot = homeSlot(objects[i]);
+            while (table[slot] != EMPTY && !objects[table[slot] - 1].equals(objects[i])) {
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] == EMPTY) {
+                table[slot] = i + 1;
+            }
+        }
+    }
+
     /**
      * Method: Checks if the list contains the specified element.
      *
@@ -55,10 +257,13 @@ public class List<E> implements Iterable<E> {
      * @return true if the element is in the list, false otherwise
      */
     public boolean contains(E e) {
-        if (objects == null) {
+        if (objects == null || e == null) {
             return false;
         }
-        for (int i = 0; i < size; i++) {
+        if (table != null) {
+            return findSlot(e) != NOT_FOUND;
+        }
+        for (int i = 0; i < end; i++) {
             if (objects[i] != null && objects[i].equals(e)) {
                 return true;
             }
@@ -76,12 +281,26 @@ public class List<E> implements Iterable<E> {
         if (e == null) {
             throw new IllegalArgumentException("Null elements are not allowed.");
         }
-        if (size == objects.length) {
-            grow();
+        if (contains(e)) {
+            return;
         }
-        if (!contains(e)) {
-            objects[size] = e;
-            size++;
+        if (end == objects.length) {
+            if ((end - size) * 4 >= end) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        objects[end] = e;
+        end++;
+        size++;
+        version++;
+        if (table != null) {
+            if (size * 2 > table.length) {
+                rebuildIndex();
+            } else {
+                indexPosition(end - 1);
+            }
         }
     }
 
@@ -91,21 +310,72 @@ public class List<E> implements Iterable<E> {
         }
     }
 
+    /**
+     * Method: Adds every element of an array to the end of the list, in order, skipping duplicates.
+     * The list and its hash index are sized once for the whole array rather than grown element by element.
+     *
+     * @param elements The elements to add
+     * @throws IllegalArgumentException if an element is null
+     */
+    public void addAll(E[] elements) {
+        compact();
+        int expectedSize = size + elements.length;
+        if (expectedSize > objects.length) {
+            E[] resizedArray = (E[]) new Object[Math.max(expectedSize, objects.length * 2)];
+            System.arraycopy(objects, 0, resizedArray, 0, size);
+            objects = resizedArray;
+        }
+        if (table != null && expectedSize * 2 > table.length) {
+            rebuildIndex(expectedSize);
+        }
+        for (E e : elements) {
+            if (e == null) {
+                throw new IllegalArgumentException("Null elements are not allowed.");
+            }
+            if (table != null) {
+                int slot = freeSlot(e);
+                if (slot == NOT_FOUND) {
+                    continue;
+                }
+                table[slot] = size + 1;
+            } else if (contains(e)) {
+                continue;
+            }
+            objects[size] = e;
+            size++;
+            end++;
+        }
+        version++;
+    }
+
     /**
      * Method: Removes the specified element from the list.
+     * An indexed list leaves a hole instead of moving the later elements back.
      *
      * @param e The element to remove
      */
     public void remove(E e) {
-        for (int i = 0; i < size; i++) {
-            if (objects[i].equals(e)) {
-                for (int j = i; j < size - 1; j++) {
-                    objects[j] = objects[j + 1];
-                }
-                objects[size - 1] = null;
-                size--;
-                return;
-            }
+        int i = find(e);
+        if (i == NOT_FOUND) {
+            return;
+        }
+        size--;
+        version++;
+        if (table == null) {
+            System.arraycopy(objects, i + 1, objects, i, end - i - 1);
+            end--;
+            objects[end] = null;
+            return;
+        }
+        clearSlot(findSlot(objects[i], i));
+        objects[i] = null;
+        while (end > size && objects[end - 1] == null) {
+            end--;
+        }
+        if (end == size) {
+            firstHole = NO_HOLE;
+        } else if (firstHole == NO_HOLE || i < firstHole) {
+            firstHole = i;
         }
     }
 
@@ -133,6 +403,7 @@ public class List<E> implements Iterable<E> {
      * @return An iterator over the elements in the list
      */
     public Iterator<E> iterator() {
+        compact();
         return new ListIterator<>();
     }
 
@@ -143,6 +414,7 @@ public class List<E> implements Iterable<E> {
      * @return The element at the specified index
      */
     public E get(int index) {
+        settle(index);
         return objects[index];
     }
 
@@ -153,7 +425,18 @@ public class List<E> implements Iterable<E> {
      * @param e     The element to set
      */
     public void set(int index, E e) {
+        settle(index);
         if (size > index) {
+            version++;
+            if (table != null) {
+                int slot = findSlot(objects[index], index);
+                if (slot != NOT_FOUND) {
+                    clearSlot(slot);
+                }
+                objects[index] = e;
+                indexPosition(index);
+                return;
+            }
             objects[index] = e;
         }
     }
@@ -165,9 +448,49 @@ public class List<E> implements Iterable<E> {
      * @return The index of the element, or -1 if not found
      */
     public int indexOf(E e) {
+        int i = find(e);
+        if (i == NOT_FOUND || firstHole == NO_HOLE || i < firstHole) {
+            return i;
+        }
+        compact();
         return find(e);
     }
 
+    /**
+     * Method: Returns a counter that changes whenever the list is modified.
+     *
+     * @return The modification version of the list
+     */
+    int version() {
+        return version;
+    }
+
+    /**
+     * Method: Copies the elements of the list, in order, into a new array.
+     *
+     * @return An array holding exactly the elements of the list
+     */
+    Object[] toArray() {
+        compact();
+        Object[] copy = new Object[size];
+        System.arraycopy(objects, 0, copy, 0, size);
+        return copy;
+    }
+
+    /**
+     * Method: Replaces the elements of the list with a reordering of them, such as a sorted copy.
+     *
+     * @param elements An array holding exactly the elements of the list in their new order
+     */
+    void setAll(Object[] elements) {
+        compact();
+        System.arraycopy(elements, 0, objects, 0, size);
+        version++;
+        if (table != null) {
+            rebuildIndex();
+        }
+    }
+
     /**
      * The ListIterator class provides an iterator for the List.
      * It allows traversal of the list's elements in a forward direction.
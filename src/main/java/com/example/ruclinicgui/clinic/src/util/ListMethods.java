@@ -2,19 +2,21 @@ package com.example.ruclinicgui.clinic.src.util;
 
 import com.example.ruclinicgui.clinic.src.*;
 
-import java.text.DecimalFormat;
 
 /**
  * This class provides various utility methods for managing lists of
  * appointments and related entities within the clinic system.
  * It extends the List class and includes methods for sorting, printing,
  * and identifying appointments, imaging, and providers.
+ * Reports read cached sorted views of the appointment list and never reorder the list itself.
  * @author Nithya Konduru, Dhyanashri Raman
  * @param <E> the type of elements in this list
  */
 public class ListMethods<E> extends List{
-    Sort sort = new Sort();
+    Sort sort = new Sort(true);
+    SortedViewCache<E> views = new SortedViewCache<>();
     int NOT_FOUND = -1;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
 
     /**
      * Constructs a new ListMethods object, initializing the underlying list.
@@ -76,8 +78,7 @@ public class ListMethods<E> extends List{
     public String printByAppointment(List<E> objects) {
         StringBuilder output = new StringBuilder();
         output.append("\n** List of appointments ordered by date/time/provider.\n");
-        sort.sortByAppointment(objects);
-        String appointmentsOutput = printAppointments(objects);
+        String appointmentsOutput = printAppointments(views.get(objects, SortedView.Ordering.APPOINTMENT));
         output.append(appointmentsOutput);
         output.append("** end of list **\n");
         return output.toString();
@@ -85,12 +86,12 @@ public class ListMethods<E> extends List{
 
 
     /**
-     * Prints all appointments in the list.
+     * Prints all appointments in the view.
      *
-     * @param objects the list of appointments to print
+     * @param objects the sorted view of the appointments to print
      * @return a formatted string of the list of appointments
      */
-    private String printAppointments(List<E> objects) {
+    private String printAppointments(SortedView<E> objects) {
         StringBuilder output = new StringBuilder();
         for (int i = 0; i < objects.size(); i++) {
             E obj = objects.get(i);
@@ -145,15 +146,14 @@ public class ListMethods<E> extends List{
         result.append("\n");
         result.append("** List of office appointments ordered by county/date/time.\n");
 
-        sort.sortByLocation(objects);
-        result.append(printOfficeAppts(objects));
+        result.append(printOfficeAppts(views.get(objects, SortedView.Ordering.LOCATION)));
 
         result.append("** end of list **\n");
         return result.toString();
     }
 
 
-    private String printOfficeAppts(List<E> objects) {
+    private String printOfficeAppts(SortedView<E> objects) {
         StringBuilder appointments = new StringBuilder();
 
         for (int i = 0; i < objects.size(); i++) {
@@ -177,13 +177,12 @@ public class ListMethods<E> extends List{
         StringBuilder result = new StringBuilder();
         result.append("\n");
         result.append("** List of radiology appointments ordered by county/date/time.\n");
-        sort.sortByLocation(objects);
-        result.append(printImagingAppts(objects));
+        result.append(printImagingAppts(views.get(objects, SortedView.Ordering.LOCATION)));
         result.append("** end of list **\n");
         return result.toString();
     }
 
-    private String printImagingAppts(List<E> objects) {
+    private String printImagingAppts(SortedView<E> objects) {
         StringBuilder appointments = new StringBuilder();
         for (int i = 0; i < objects.size(); i++) {
             E obj = objects.get(i);
@@ -205,8 +204,7 @@ public class ListMethods<E> extends List{
         result.append("\n");
         result.append("** Appointments ordered by patient/date/time **\n");
 
-        sort.sortByPatient(objects);
-        result.append(printAppointments(objects));
+        result.append(printAppointments(views.get(objects, SortedView.Ordering.PATIENT)));
 
         result.append("** end of list **\n");
         return result.toString();
@@ -223,8 +221,7 @@ public class ListMethods<E> extends List{
         result.append("\n");
         result.append("** Appointments ordered by county/date/time **\n");
 
-        sort.sortByLocation(objects);
-        result.append(printAppointments(objects));
+        result.append(printAppointments(views.get(objects, SortedView.Ordering.LOCATION)));
 
         result.append("** end of list **\n");
         return result.toString();
@@ -242,13 +239,12 @@ public class ListMethods<E> extends List{
         }
         StringBuilder result = new StringBuilder();
         result.append("\n** Billing statement ordered by patient **\n");
-        sort.sortByPatient(objects);
-        DecimalFormat formatDec = new DecimalFormat("$#,##0.00");
+        SortedView<E> byPatient = views.get(objects, SortedView.Ordering.PATIENT);
         int counter = 1;
         Profile currentProfile = null;
-        int currentCharge = 0;
-        for (int i = 0; i < objects.size(); i++) {
-            E obj = objects.get(i);
+        long currentCharge = 0;
+        for (int i = 0; i < byPatient.size(); i++) {
+            E obj = byPatient.get(i);
             int charge = 0;
             Profile profile = null;
             if (obj instanceof Appointment) {
@@ -261,73 +257,100 @@ public class ListMethods<E> extends List{
             }
             if (currentProfile == null || !currentProfile.equals(profile)) {
                 if (currentProfile != null) {
-                    result.append(String.format("(%d) %s [amount due: %s]%n",
-                            counter++,
-                            currentProfile.toString(),
-                            formatDec.format(currentCharge)));
+                    appendAmountDue(result, counter++, currentProfile, currentCharge);
                 }
                 currentProfile = profile;
-                currentCharge = charge;
+                currentCharge = Money.toCents(charge);
             } else {
-                currentCharge += charge;
+                currentCharge += Money.toCents(charge);
             }
         }
         if (currentProfile != null) {
-            result.append(String.format("(%d) %s [amount due: %s]%n",
-                    counter,
-                    currentProfile.toString(),
-                    formatDec.format(currentCharge)));
+            appendAmountDue(result, counter, currentProfile, currentCharge);
         }
         result.append("** end of list **\n");
         return result.toString();
     }
 
+    /**
+     * Prints the billing statement from a running ledger of the amount due from each patient, in cents.
+     * Patients whose appointments have all been canceled are left out.
+     * A statement with many patients is sorted on the fork-join pool.
+     *
+     * @param charges the ledger of the amount due from each patient
+     * @return a formatted string of the amount due from each patient
+     */
+    public String printAllCharge(Ledger<Profile> charges) {
+        List<Profile> patients = new List<Profile>(true);
+        for (int i = 0; i < charges.size(); i++) {
+            if (charges.countAt(i) > 0) {
+                patients.add(charges.keyAt(i));
+            }
+        }
+        if (patients.size() == 0) {
+            return "\nThere are no appointments in the system.\n";
+        }
+        sort.sortByPatientProfile(patients);
+        StringBuilder result = new StringBuilder();
+        result.append("\n** Billing statement ordered by patient **\n");
+        for (int i = 0; i < patients.size(); i++) {
+            Profile profile = patients.get(i);
+            appendAmountDue(result, i + 1, profile, charges.amountOf(profile));
+        }
+        result.append("** end of list **\n");
+        return result.toString();
+    }
+
+    /**
+     * Appends one line of the billing statement.
+     *
+     * @param result  the statement being built
+     * @param counter the line number
+     * @param profile the patient's profile
+     * @param cents   the amount due from the patient, in cents
+     */
+    private void appendAmountDue(StringBuilder result, int counter, Profile profile, long cents) {
+        result.append('(').append(counter).append(") ").append(profile.toString()).append(" [amount due: ");
+        Money.appendTo(result, cents, Money.Style.GROUPED).append(']').append(LINE_SEPARATOR);
+    }
+
     /**
      * Prints the charges for appointments ordered by provider.
+     * Credits are totaled per provider in one pass over the appointments,
+     * and only the distinct providers are sorted.
      *
      * @param objects   the list of appointments
      * @param techsCLL  the circular linked list of technicians
      * @return a formatted string of the credit amounts by provider
      */
     public String printProviderCharges(List<E> objects, CircularLinkedList techsCLL) {
+        return printProviderCharges(providerCredits(objects, techsCLL));
+    }
+
+    /**
+     * Prints the credit owed to each provider from a running ledger of provider credits, in cents.
+     * Providers with no credit are left out.
+     *
+     * @param credits  the ledger of credit owed to each provider
+     * @return a formatted string of the credit amounts by provider
+     */
+    public String printProviderCharges(Ledger<Provider> credits) {
         StringBuilder result = new StringBuilder();
-        List<Provider> providers = new List<Provider>();
         result.append("\n** Credit amount ordered by provider. **\n");
-        Node start = techsCLL.getHead();
-        Provider currProvider = null;
-        Node curr = start;
-        do {
-            providers.add(curr.getTechnician());
-            curr = curr.next;
-        } while (curr != start);
-
-        for (int i = 0; i < objects.size(); i++) {
-            if (objects.get(i) instanceof Appointment && ((Appointment) objects.get(i)).getProvider() instanceof Doctor) {
-                providers.add(((Appointment) objects.get(i)).getProvider());
-            }
+        List<Provider> providers = new List<Provider>(true);
+        for (int i = 0; i < credits.size(); i++) {
+            providers.add(credits.keyAt(i));
         }
         sort.sortByProviderForPrint(providers);
-        int charge;
         int counter = 1;
         for (int j = 0; j < providers.size(); j++) {
-            charge = 0;
-            currProvider = providers.get(j);
-
-            for (int i = 0; i < objects.size(); i++) {
-                if (objects.get(i) instanceof Imaging && currProvider instanceof Technician) {
-                    if (((Imaging) objects.get(i)).getProvider().equals(currProvider)) {
-                        charge += ((Imaging) objects.get(i)).getProvider().rate();
-                    }
-                } else if (objects.get(i) instanceof Appointment && currProvider instanceof Doctor) {
-                    if (((Appointment) objects.get(i)).getProvider().equals(currProvider)) {
-                        charge += (((Appointment) objects.get(i)).getProvider().rate());
-                    }
-                }
-            }
+            Provider currProvider = providers.get(j);
+            long charge = credits.amountOf(currProvider);
             if(charge != 0){
                 result.append("(").append(counter).append(") ")
                         .append(currProvider.getProfile().toString())
-                        .append(" [credit amount: $").append(charge).append(".00] \n");
+                        .append(" [credit amount: ");
+                Money.appendTo(result, charge, Money.Style.PLAIN).append("] \n");
                 counter++;
             }
 
@@ -336,6 +359,33 @@ public class ListMethods<E> extends List{
         return result.toString();
     }
 
+    /**
+     * Totals the credit owed to each provider in a single pass over the appointments.
+     * Technicians are registered first in rotation order, then doctors in order of their first appointment.
+     *
+     * @param objects   the list of appointments
+     * @param techsCLL  the circular linked list of technicians
+     * @return a ledger of the credit owed to each provider
+     */
+    private Ledger<Provider> providerCredits(List<E> objects, CircularLinkedList techsCLL) {
+        Ledger<Provider> credits = new Ledger<>();
+        Node start = techsCLL.getHead();
+        Node curr = start;
+        if (start != null) {
+            do {
+                credits.register(curr.getTechnician());
+                curr = curr.next;
+            } while (curr != start);
+        }
+        for (int i = 0; i < objects.size(); i++) {
+            if (objects.get(i) instanceof Appointment) {
+                Provider provider = ((Appointment) objects.get(i)).getProvider();
+                credits.post(provider, Money.toCents(provider.rate()));
+            }
+        }
+        return credits;
+    }
+
     /**
      * Retrieves the index of a doctor based on the provided NPI number.
      *
@@ -0,0 +1,189 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+/**
+ * The Money class is an amount of money held as a whole number of cents, so totals add up exactly.
+ * It also formats amounts straight into a StringBuilder, digit by digit,
+ * so a billing report does not create a formatter or a string for every line.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public final class Money implements Comparable<Money> {
+    /**
+     * The ways an amount can be written.
+     */
+    public enum Style {
+        /** Thousands separated by commas, as in $1,250.00. */
+        GROUPED,
+        /** Digits only, as in $1250.00. */
+        PLAIN
+    }
+
+    /** No money. */
+    public static final Money ZERO = new Money(0);
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int GROUP_SIZE = 1000;
+    private final long cents;
+
+    /**
+     * Constructs an amount from a number of cents.
+     *
+     * @param cents The amount in cents.
+     */
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Method: Returns the amount for a number of cents.
+     *
+     * @param cents The amount in cents.
+     * @return The amount.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Method: Returns the amount for a whole number of dollars.
+     *
+     * @param dollars The amount in dollars.
+     * @return The amount.
+     */
+    public static Money ofDollars(long dollars) {
+        return ofCents(toCents(dollars));
+    }
+
+    /**
+     * Method: Converts a whole number of dollars to cents.
+     *
+     * @param dollars The amount in dollars.
+     * @return The amount in cents.
+     */
+    public static long toCents(long dollars) {
+        return dollars * CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Method: Returns the amount in cents.
+     *
+     * @return The amount in cents.
+     */
+    public long cents() {
+        return cents;
+    }
+
+    /**
+     * Method: Returns the sum of this amount and another.
+     *
+     * @param other The amount to add.
+     * @return The sum.
+     */
+    public Money plus(Money other) {
+        return ofCents(cents + other.cents);
+    }
+
+    /**
+     * Method: Returns this amount less another.
+     *
+     * @param other The amount to take away.
+     * @return The difference.
+     */
+    public Money minus(Money other) {
+        return ofCents(cents - other.cents);
+    }
+
+    /**
+     * Method: Writes this amount, with a dollar sign and two decimal places, to the end of a StringBuilder.
+     *
+     * @param out   The StringBuilder to write to.
+     * @param style Whether to separate thousands with commas.
+     * @return The StringBuilder.
+     */
+    public StringBuilder appendTo(StringBuilder out, Style style) {
+        return appendTo(out, cents, style);
+    }
+
+    /**
+     * Method: Writes an amount in cents, with a dollar sign and two decimal places, to the end of a StringBuilder.
+     * A negative amount is written with a leading minus sign, as in -$5.00.
+     *
+     * @param out   The StringBuilder to write to.
+     * @param cents The amount in cents.
+     * @param style Whether to separate thousands with commas.
+     * @return The StringBuilder.
+     */
+    public static StringBuilder appendTo(StringBuilder out, long cents, Style style) {
+        if (cents < 0) {
+            out.append('-');
+        }
+        long dollars = Math.abs(cents / CENTS_PER_DOLLAR);
+        int fraction = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+        out.append('$');
+        if (style == Style.GROUPED) {
+            appendGrouped(out, dollars);
+        } else {
+            out.append(dollars);
+        }
+        return out.append('.').append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+    }
+
+    /**
+     * Method: Writes a whole number with its thousands separated by commas.
+     *
+     * @param out    The StringBuilder to write to.
+     * @param number The number to write, not negative.
+     */
+    private static void appendGrouped(StringBuilder out, long number) {
+        if (number < GROUP_SIZE) {
+            out.append(number);
+            return;
+        }
+        appendGrouped(out, number / GROUP_SIZE);
+        int group = (int) (number % GROUP_SIZE);
+        out.append(',')
+                .append((char) ('0' + group / 100))
+                .append((char) ('0' + group / 10 % 10))
+                .append((char) ('0' + group % 10));
+    }
+
+    /**
+     * Method: Compares this amount to another.
+     *
+     * @param other The amount to compare to.
+     * @return A negative number, zero or a positive number as this amount is less than, equal to or more than the other.
+     */
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Method: Checks whether another object is the same amount.
+     *
+     * @param obj The object to compare to.
+     * @return true if the object is an equal amount, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Money && ((Money) obj).cents == cents;
+    }
+
+    /**
+     * Method: Returns a hash code for the amount.
+     *
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Method: Returns the amount with its thousands separated by commas, as in $1,250.00.
+     *
+     * @return The formatted amount.
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(), Style.GROUPED).toString();
+    }
+}
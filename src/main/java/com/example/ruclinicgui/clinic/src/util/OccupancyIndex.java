@@ -0,0 +1,217 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Timeslot;
+
+/**
+ * The OccupancyIndex class records which timeslots are taken for an owner, such as a provider,
+ * on each day. Every (owner, date) pair maps to a bitmask with one bit per timeslot ordinal,
+ * so checking for a conflict is a single hash probe followed by a bit test.
+ * The index is an open-addressing hash table; an entry disappears once its day is free again.
+ * @author Nithya Konduru, Dhyanashri Raman
+ * @param <K> The type of the owner of the timeslots
+ */
+public class OccupancyIndex<K> {
+    private static final int INITIAL_CAPACITY = 16;
+    private Object[] owners;
+    private Date[] dates;
+    private short[] masks;
+    private int size;
+
+    /**
+     * Default constructor: Initializes an empty occupancy index.
+     */
+    public OccupancyIndex() {
+        owners = new Object[INITIAL_CAPACITY];
+        dates = new Date[INITIAL_CAPACITY];
+        masks = new short[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Method: Computes the home slot of an (owner, date) pair.
+     *
+     * @param owner The owner of the timeslots.
+     * @param date  The day.
+     * @return The first table slot to probe for the pair.
+     */
+    private int homeSlot(Object owner, Date date) {
+        int h = 31 * owner.hashCode() + date.hashCode();
+        return (h ^ (h >>> 16)) & (owners.length - 1);
+    }
+
+    /**
+     * Method: Finds the table slot holding an (owner, date) pair.
+     *
+     * @param owner The owner of the timeslots.
+     * @param date  The day.
+     * @return The table slot of the pair, or -1 if the owner has nothing booked that day.
+     */
+    private int find(Object owner, Date date) {
+        int mask = owners.length - 1;
+        for (int i = homeSlot(owner, date); owners[i] != null; i = (i + 1) & mask) {
+            if (owners[i].equals(owner) && dates[i].equals(date)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Method: Returns the bitmask of timeslots taken for an owner on a date.
+     * Bit n is set when the timeslot with ordinal n is taken.
+     *
+     * @param owner The owner of the timeslots.
+     * @param date  The day.
+     * @return The bitmask of taken timeslots.
+     */
+    public int takenSlots(K owner, Date date) {
+        if (owner == null || date == null) {
+            return 0;
+        }
+        int i = find(owner, date);
+        return i == -1 ? 0 : masks[i] & Timeslot.ALL_SLOTS;
+    }
+
+    /**
+     * Method: Returns the bitmask of timeslots still free for an owner on a date.
+     * Bit n is set when the timeslot with ordinal n is free.
+     *
+     * @param owner The owner of the timeslots.
+     * @param date  The day.
+     * @return The bitmask of free timeslots.
+     */
+    public int freeSlots(K owner, Date date) {
+        return ~takenSlots(owner, date) & Timeslot.ALL_SLOTS;
+    }
+
+    /**
+     * Method: Checks whether a timeslot is taken for an owner on a date.
+     *
+     * @param owner    The owner of the timeslot.
+     * @param date     The day.
+     * @param timeslot The timeslot to check.
+     * @return true if the timeslot is taken, false otherwise.
+     */
+    public boolean isTaken(K owner, Date date, Timeslot timeslot) {
+        if (timeslot == null || timeslot.ordinal() < 0) {
+            return false;
+        }
+        return (takenSlots(owner, date) & (1 << timeslot.ordinal())) != 0;
+    }
+
+    /**
+     * Method: Marks a timeslot as taken for an owner on a date.
+     *
+     * @param owner    The owner of the timeslot.
+     * @param date     The day.
+     * @param timeslot The timeslot to take.
+     */
+    public void occupy(K owner, Date date, Timeslot timeslot) {
+        if (owner == null || date == null || timeslot == null || timeslot.ordinal() < 0) {
+            return;
+        }
+        int i = find(owner, date);
+        if (i == -1) {
+            if ((size + 1) * 2 > owners.length) {
+                resize();
+            }
+            int mask = owners.length - 1;
+            i = homeSlot(owner, date);
+            while (owners[i] != null) {
+                i = (i + 1) & mask;
+            }
+            owners[i] = owner;
+            dates[i] = date;
+            size++;
+        }
+        masks[i] |= (short) (1 << timeslot.ordinal());
+    }
+
+    /**
+     * Method: Marks a timeslot as free again for an owner on a date.
+     *
+     * @param owner    The owner of the timeslot.
+     * @param date     The day.
+     * @param timeslot The timeslot to free.
+     */
+    public void release(K owner, Date date, Timeslot timeslot) {
+        if (owner == null || date == null || timeslot == null || timeslot.ordinal() < 0) {
+            return;
+        }
+        int i = find(owner, date);
+        if (i == -1) {
+            return;
+        }
+        masks[i] &= (short) ~(1 << timeslot.ordinal());
+        if (masks[i] == 0) {
+            clearSlot(i);
+            size--;
+        }
+    }
+
+    /**
+     * Method: Returns the number of (owner, date) pairs with at least one timeslot taken.
+     *
+     * @return The size of the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method: Removes every entry from the index.
+     */
+    public void clear() {
+        owners = new Object[INITIAL_CAPACITY];
+        dates = new Date[INITIAL_CAPACITY];
+        masks = new short[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Method: Empties a table slot, shifting later entries of the probe run back
+     * so that every remaining entry stays reachable from its home slot.
+     *
+     * @param slot The table slot to empty.
+     */
+    private void clearSlot(int slot) {
+        int mask = owners.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; owners[next] != null; next = (next + 1) & mask) {
+            int home = homeSlot(owners[next], dates[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                owners[hole] = owners[next];
+                dates[hole] = dates[next];
+                masks[hole] = masks[next];
+                hole = next;
+            }
+        }
+        owners[hole] = null;
+        dates[hole] = null;
+        masks[hole] = 0;
+    }
+
+    /**
+     * Method: Doubles the capacity of the table and reinserts every entry.
+     */
+    private void resize() {
+        Object[] oldOwners = owners;
+        Date[] oldDates = dates;
+        short[] oldMasks = masks;
+        owners = new Object[oldOwners.length * 2];
+        dates = new Date[oldOwners.length * 2];
+        masks = new short[oldOwners.length * 2];
+        int mask = owners.length - 1;
+        for (int j = 0; j < oldOwners.length; j++) {
+            if (oldOwners[j] != null) {
+                int i = homeSlot(oldOwners[j], oldDates[j]);
+                while (owners[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                owners[i] = oldOwners[j];
+                dates[i] = oldDates[j];
+                masks[i] = oldMasks[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Location;
+import com.example.ruclinicgui.clinic.src.Provider;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This class sorts appointments by packing each sort key into a single long and running
+ * a stable least-significant-digit radix sort over the packed keys.
+ * The date, timeslot ordinal, and either the provider's rank or the county's rank
+ * fit in one long, so the hottest report orderings sort in linear time with no comparator calls.
+ * When a key cannot be packed the caller falls back to the comparison sort.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+final class RadixSort {
+    static final int RADIX_THRESHOLD = 256;
+    private static final int DIGIT_BITS = 11;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int SLOT_BITS = 4;
+    private static final int DATE_BITS = 31;
+    private static final int PROVIDER_BITS = 20;
+    private static final int[] COUNTY_RANKS = countyRanks();
+
+    /**
+     * Private constructor: RadixSort only has static methods.
+     */
+    private RadixSort() {
+    }
+
+    /**
+     * Sorts appointments by date, timeslot, and provider, matching Appointment.compareByAppointment.
+     *
+     * @param elements The appointments to be sorted.
+     * @return true if the array was sorted, false if the caller must use the comparison sort.
+     */
+    static boolean sortByAppointment(Object[] elements) {
+        if (elements.length < RADIX_THRESHOLD) {
+            return false;
+        }
+        List<Provider> providers = new List<>(true);
+        for (Object element : elements) {
+            if (!(element instanceof Appointment)) {
+                return false;
+            }
+            providers.add(((Appointment) element).getProvider());
+        }
+        int[] ranks = providerRanks(providers);
+        if (ranks == null) {
+            return false;
+        }
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            Appointment appt = (Appointment) elements[i];
+            long dateSlot = dateSlotKey(appt);
+            if (dateSlot < 0) {
+                return false;
+            }
+            int position = providers.indexOf(appt.getProvider());
+            Provider representative = providers.get(position);
+            if (representative != appt.getProvider() && representative.compareTo(appt.getProvider()) != 0) {
+                return false;
+            }
+            keys[i] = (dateSlot << PROVIDER_BITS) | ranks[position];
+        }
+        sort(elements, keys);
+        return true;
+    }
+
+    /**
+     * Sorts appointments by county, date, and timeslot, matching Appointment.compareByLocation.
+     *
+     * @param elements The appointments to be sorted.
+     * @return true if the array was sorted, false if the caller must use the comparison sort.
+     */
+    static boolean sortByLocation(Object[] elements) {
+        if (elements.length < RADIX_THRESHOLD) {
+            return false;
+        }
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            if (!(elements[i] instanceof Appointment)) {
+                return false;
+            }
+            Appointment appt = (Appointment) elements[i];
+            long dateSlot = dateSlotKey(appt);
+            if (dateSlot < 0) {
+                return false;
+            }
+            long county = COUNTY_RANKS[appt.getProvider().getLocation().ordinal()];
+            keys[i] = (county << (DATE_BITS + SLOT_BITS)) | dateSlot;
+        }
+        sort(elements, keys);
+        return true;
+    }
+
+    /**
+     * Packs the date and timeslot of an appointment, date first.
+     *
+     * @param appt The appointment.
+     * @return The packed date and timeslot, or -1 if either cannot be packed in order.
+     */
+    private static long dateSlotKey(Appointment appt) {
+        Date date = appt.getDate();
+        int slot = appt.getTimeslot().ordinal();
+        if (slot < 0 || date.getYear() < 0 || date.getYear() >= (1 << (DATE_BITS - 9))
+                || date.getMonth() < 1 || date.getMonth() > 12 || date.getDay() < 1 || date.getDay() > 31) {
+            return -1;
+        }
+        return ((long) date.packed() << SLOT_BITS) | slot;
+    }
+
+    /**
+     * Ranks distinct providers in Provider.compareTo order; providers comparing equal share a rank.
+     *
+     * @param providers The distinct providers.
+     * @return The rank of the provider at each position, or null if there are too many providers.
+     */
+    private static int[] providerRanks(List<Provider> providers) {
+        if (providers.size() >= (1 << PROVIDER_BITS)) {
+            return null;
+        }
+        Object[] order = providers.toArray();
+        Comparator<Object> byProvider = (first, second) -> ((Provider) first).compareTo((Provider) second);
+        Sort.mergeSort(order, byProvider);
+        int[] ranks = new int[providers.size()];
+        int rank = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0 && byProvider.compare(order[i - 1], order[i]) != 0) {
+                rank++;
+            }
+            ranks[providers.indexOf((Provider) order[i])] = rank;
+        }
+        return ranks;
+    }
+
+    /**
+     * Ranks each location by its county name, so locations in the same county share a rank.
+     *
+     * @return The county rank of each location, indexed by ordinal.
+     */
+    private static int[] countyRanks() {
+        Location[] locations = Location.values();
+        int[] ranks = new int[locations.length];
+        for (int i = 0; i < locations.length; i++) {
+            for (Location other : locations) {
+                if (other.getCounty().compareTo(locations[i].getCounty()) < 0) {
+                    ranks[i]++;
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Reorders elements by their keys with a stable LSD radix sort.
+     * Keys are first shifted down by their minimum, and only the digits that vary are sorted.
+     *
+     * @param elements The elements to be reordered.
+     * @param keys     The packed key of each element.
+     */
+    private static void sort(Object[] elements, long[] keys) {
+        int n = elements.length;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(max - min);
+        long[] keyBuffer = new long[n];
+        Object[] elementBuffer = new Object[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] -= min;
+        }
+        long[] srcKeys = keys;
+        Object[] srcElements = elements;
+        int[] counts = new int[BUCKETS + 1];
+        for (int shift = 0; shift < bits; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(int) ((srcKeys[i] >>> shift) & (BUCKETS - 1)) + 1]++;
+            }
+            for (int b = 0; b < BUCKETS; b++) {
+                counts[b + 1] += counts[b];
+            }
+            for (int i = 0; i < n; i++) {
+                int target = counts[(int) ((srcKeys[i] >>> shift) & (BUCKETS - 1))]++;
+                keyBuffer[target] = srcKeys[i];
+                elementBuffer[target] = srcElements[i];
+            }
+            long[] swapKeys = srcKeys;
+            srcKeys = keyBuffer;
+            keyBuffer = swapKeys;
+            Object[] swapElements = srcElements;
+            srcElements = elementBuffer;
+            elementBuffer = swapElements;
+        }
+        if (srcElements != elements) {
+            System.arraycopy(srcElements, 0, elements, 0, n);
+        }
+    }
+}
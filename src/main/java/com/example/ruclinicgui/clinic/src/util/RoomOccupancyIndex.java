@@ -0,0 +1,92 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Location;
+import com.example.ruclinicgui.clinic.src.Radiology;
+import com.example.ruclinicgui.clinic.src.Timeslot;
+
+/**
+ * The RoomOccupancyIndex class records which timeslots each imaging room is booked for.
+ * A room is identified by the clinic location and the radiology service it provides, and every
+ * room keeps a per-day bitmask of taken timeslots, so checking a room is a constant-time bit test.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public class RoomOccupancyIndex {
+    private final OccupancyIndex<Location>[] rooms;
+
+    /**
+     * Default constructor: Initializes an index with every room free.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public RoomOccupancyIndex() {
+        rooms = (OccupancyIndex<Location>[]) new OccupancyIndex[Radiology.values().length];
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = new OccupancyIndex<>();
+        }
+    }
+
+    /**
+     * Method: Checks whether a room is free at a date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The radiology service of the room.
+     * @param date     The day.
+     * @param timeslot The timeslot to check.
+     * @return true if the room is free, false if it is booked.
+     */
+    public boolean isFree(Location location, Radiology room, Date date, Timeslot timeslot) {
+        if (room == null) {
+            return true;
+        }
+        return !rooms[room.ordinal()].isTaken(location, date, timeslot);
+    }
+
+    /**
+     * Method: Returns the bitmask of timeslots a room is still free for on a date.
+     * Bit n is set when the timeslot with ordinal n is free.
+     *
+     * @param location The location of the room.
+     * @param room     The radiology service of the room.
+     * @param date     The day.
+     * @return The bitmask of free timeslots.
+     */
+    public int freeSlots(Location location, Radiology room, Date date) {
+        return rooms[room.ordinal()].freeSlots(location, date);
+    }
+
+    /**
+     * Method: Books a room at a date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The radiology service of the room.
+     * @param date     The day.
+     * @param timeslot The timeslot to book.
+     */
+    public void occupy(Location location, Radiology room, Date date, Timeslot timeslot) {
+        if (room != null) {
+            rooms[room.ordinal()].occupy(location, date, timeslot);
+        }
+    }
+
+    /**
+     * Method: Frees a room at a date and timeslot.
+     *
+     * @param location The location of the room.
+     * @param room     The radiology service of the room.
+     * @param date     The day.
+     * @param timeslot The timeslot to free.
+     */
+    public void release(Location location, Radiology room, Date date, Timeslot timeslot) {
+        if (room != null) {
+            rooms[room.ordinal()].release(location, date, timeslot);
+        }
+    }
+
+    /**
+     * Method: Frees every room.
+     */
+    public void clear() {
+        for (OccupancyIndex<Location> index : rooms) {
+            index.clear();
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Doctor;
+import com.example.ruclinicgui.clinic.src.Location;
+import com.example.ruclinicgui.clinic.src.Profile;
+import com.example.ruclinicgui.clinic.src.Provider;
+import com.example.ruclinicgui.clinic.src.Specialty;
+import com.example.ruclinicgui.clinic.src.Technician;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The RosterLoader class reads a provider roster by memory-mapping the file and tokenizing its records in place.
+ * Each line is a doctor record, D  first  last  dob  location  specialty  npi,
+ * or a technician record, T  first  last  dob  location  rate, with fields separated by two spaces.
+ * Only names and NPIs become strings; record types, dates, locations, specialties and rates are read from the bytes.
+ * Other lines are ignored. Large rosters are split at line boundaries and parsed on the common fork-join pool.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public final class RosterLoader {
+    /** Rosters at least this many bytes long are parsed in parallel by load(Path). */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int CHUNK_SIZE = 1 << 18;
+    private static final int DOCTOR_FIELDS = 7;
+    private static final int TECHNICIAN_FIELDS = 6;
+    private static final int MAX_FIELDS = 8;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final byte[][] LOCATION_NAMES = upperCaseNames(Location.values());
+    private static final byte[][] SPECIALTY_NAMES = upperCaseNames(Specialty.values());
+
+    /**
+     * The providers read from a roster.
+     */
+    public static final class Roster {
+        private final Provider[] providers;
+        private final Technician[] technicians;
+
+        /**
+         * Constructs a roster.
+         *
+         * @param providers   Every provider, in file order.
+         * @param technicians The technicians, in file order.
+         */
+        Roster(Provider[] providers, Technician[] technicians) {
+            this.providers = providers;
+            this.technicians = technicians;
+        }
+
+        /**
+         * Method: Returns every provider in the roster, in file order.
+         *
+         * @return The providers.
+         */
+        public Provider[] providers() {
+            return providers;
+        }
+
+        /**
+         * Method: Returns the technicians in the roster, in file order.
+         *
+         * @return The technicians.
+         */
+        public Technician[] technicians() {
+            return technicians;
+        }
+    }
+
+    /**
+     * Prevents instantiation; the class only has static methods.
+     */
+    private RosterLoader() {
+    }
+
+    /**
+     * Method: Reads a roster, in parallel if the file is at least PARALLEL_THRESHOLD bytes long.
+     *
+     * @param path The roster file.
+     * @return The providers in the roster.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if a doctor or technician record is malformed.
+     */
+    public static Roster load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return load(map(channel), channel.size() >= PARALLEL_THRESHOLD);
+        }
+    }
+
+    /**
+     * Method: Reads a roster.
+     *
+     * @param path     The roster file.
+     * @param parallel true to parse chunks of the file on the common fork-join pool.
+     * @return The providers in the roster.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if a doctor or technician record is malformed.
+     */
+    public static Roster load(Path path, boolean parallel) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return load(map(channel), parallel);
+        }
+    }
+
+    /**
+     * Method: Maps a roster file into memory.
+     *
+     * @param channel The open roster file.
+     * @return The mapped bytes of the file.
+     * @throws IOException if the file cannot be mapped or is too large to map at once.
+     */
+    private static MappedByteBuffer map(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Roster file is too large: " + size + " bytes.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    /**
+     * Method: Reads the roster records in a buffer.
+     *
+     * @param bytes    The roster, from index 0 to the buffer's limit.
+     * @param parallel true to parse chunks of the buffer on the common fork-join pool.
+     * @return The providers in the roster.
+     */
+    static Roster load(ByteBuffer bytes, boolean parallel) {
+        int length = bytes.limit();
+        Records records;
+        if (parallel && length > CHUNK_SIZE) {
+            int[] bounds = chunkBounds(bytes, length);
+            records = ForkJoinPool.commonPool().invoke(new ParseTask(bytes, bounds, 0, bounds.length - 1));
+        } else {
+            records = parse(bytes, 0, length);
+        }
+        return records.toRoster();
+    }
+
+    /**
+     * Method: Splits a buffer into chunks of about CHUNK_SIZE bytes that end at line breaks.
+     *
+     * @param bytes  The roster.
+     * @param length The number of bytes in the roster.
+     * @return The chunk boundaries, starting with 0 and ending with the length.
+     */
+    private static int[] chunkBounds(ByteBuffer bytes, int length) {
+        int[] bounds = new int[length / CHUNK_SIZE + 2];
+        int count = 1;
+        int start = 0;
+        while (start < length) {
+            int end = Math.min(length, start + CHUNK_SIZE);
+            while (end < length && bytes.get(end - 1) != '\n') {
+                end++;
+            }
+            bounds[count++] = end;
+            start = end;
+        }
+        int[] trimmed = new int[count];
+        System.arraycopy(bounds, 0, trimmed, 0, count);
+        return trimmed;
+    }
+
+    /**
+     * Method: Parses the lines in a range of a buffer that starts at a line break.
+     *
+     * @param bytes The roster.
+     * @param start The first byte of the range, inclusive.
+     * @param end   The last byte of the range, exclusive.
+     * @return The records in the range, in order.
+     */
+    private static Records parse(ByteBuffer bytes, int start, int end) {
+        Records records = new Records();
+        int[] fields = new int[MAX_FIELDS * 2];
+        byte[] scratch = new byte[INITIAL_CAPACITY];
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && bytes.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && bytes.get(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            scratch = parseRecord(bytes, lineStart, contentEnd, fields, scratch, records);
+            lineStart = lineEnd + 1;
+        }
+        return records;
+    }
+
+    /**
+     * Method: Parses one line, adding the provider it describes, if any, to the records.
+     *
+     * @param bytes   The roster.
+     * @param start   The first byte of the line.
+     * @param end     The end of the line, before any line break.
+     * @param fields  Scratch space for the start and end of each field.
+     * @param scratch Scratch space for decoding names.
+     * @param records The records read so far.
+     * @return The scratch space for decoding names, grown if needed.
+     * @throws IllegalArgumentException if the line is a malformed doctor or technician record.
+     */
+    private static byte[] parseRecord(ByteBuffer bytes, int start, int end, int[] fields, byte[] scratch, Records records) {
+        int count = tokenize(bytes, start, end, fields);
+        if (fields[1] - fields[0] != 1) {
+            return scratch;
+        }
+        byte type = bytes.get(fields[0]);
+        if (type != 'D' && type != 'T') {
+            return scratch;
+        }
+        if (count < (type == 'D' ? DOCTOR_FIELDS : TECHNICIAN_FIELDS)) {
+            throw malformed(start);
+        }
+        int maxLength = 0;
+        for (int i = 1; i < count; i++) {
+            maxLength = Math.max(maxLength, fields[2 * i + 1] - fields[2 * i]);
+        }
+        if (maxLength > scratch.length) {
+            scratch = new byte[maxLength];
+        }
+        int dob = DateParser.parse(bytes, fields[6], fields[7]);
+        if (dob == DateParser.ERROR) {
+            throw malformed(start);
+        }
+        Profile profile = Profile.of(string(bytes, fields[2], fields[3], scratch),
+                string(bytes, fields[4], fields[5], scratch), DateParser.toDate(dob));
+        Location location = (Location) match(bytes, fields[8], fields[9], LOCATION_NAMES, Location.values());
+        if (type == 'D') {
+            Specialty specialty = (Specialty) match(bytes, fields[10], fields[11], SPECIALTY_NAMES, Specialty.values());
+            records.add(new Doctor(profile, location, specialty, string(bytes, fields[12], fields[13], scratch)));
+        } else {
+            int rate = parseRate(bytes, fields[10], fields[11]);
+            records.add(new Technician(profile, location, rate));
+        }
+        return scratch;
+    }
+
+    /**
+     * Method: Finds the fields of a line, which are separated by two spaces.
+     * The remainder of the line after the last separator is the last field.
+     *
+     * @param bytes  The roster.
+     * @param start  The first byte of the line.
+     * @param end    The end of the line.
+     * @param fields Receives the start and end of each field, up to MAX_FIELDS fields.
+     * @return The number of fields found, at most MAX_FIELDS.
+     */
+    private static int tokenize(ByteBuffer bytes, int start, int end, int[] fields) {
+        int count = 0;
+        int fieldStart = start;
+        int i = start;
+        while (count < MAX_FIELDS - 1 && i + 1 < end) {
+            if (bytes.get(i) == ' ' && bytes.get(i + 1) == ' ') {
+                fields[2 * count] = fieldStart;
+                fields[2 * count + 1] = i;
+                count++;
+                i += 2;
+                fieldStart = i;
+            } else {
+                i++;
+            }
+        }
+        fields[2 * count] = fieldStart;
+        fields[2 * count + 1] = end;
+        return count + 1;
+    }
+
+    /**
+     * Method: Decodes a field as UTF-8 text.
+     *
+     * @param bytes   The roster.
+     * @param start   The first byte of the field.
+     * @param end     The end of the field.
+     * @param scratch Space to copy the field into, at least as long as the field.
+     * @return The text of the field.
+     */
+    private static String string(ByteBuffer bytes, int start, int end, byte[] scratch) {
+        bytes.get(start, scratch, 0, end - start);
+        return new String(scratch, 0, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method: Finds the enum constant whose upper-case name a field spells.
+     *
+     * @param bytes     The roster.
+     * @param start     The first byte of the field.
+     * @param end       The end of the field.
+     * @param names     The upper-case names of the constants, as ASCII bytes.
+     * @param constants The constants, in the same order as their names.
+     * @return The matching constant, or null if there is none.
+     */
+    private static Object match(ByteBuffer bytes, int start, int end, byte[][] names, Object[] constants) {
+        for (int i = 0; i < names.length; i++) {
+            byte[] name = names[i];
+            if (name.length != end - start) {
+                continue;
+            }
+            int j = 0;
+            while (j < name.length && bytes.get(start + j) == name[j]) {
+                j++;
+            }
+            if (j == name.length) {
+                return constants[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method: Reads a technician's rate, an optionally signed decimal integer.
+     *
+     * @param bytes The roster.
+     * @param start The first byte of the field.
+     * @param end   The end of the field.
+     * @return The rate.
+     * @throws IllegalArgumentException if the field is not an integer.
+     */
+    private static int parseRate(ByteBuffer bytes, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+            negative = bytes.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw malformed(start);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            byte c = bytes.get(i);
+            if (c < '0' || c > '9') {
+                throw malformed(start);
+            }
+            value = value * 10 + (c - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw malformed(start);
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw malformed(start);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Method: Builds the error for a malformed record.
+     *
+     * @param offset A byte offset within the record.
+     * @return The error.
+     */
+    private static IllegalArgumentException malformed(int offset) {
+        return new IllegalArgumentException("Malformed roster record near byte " + offset + ".");
+    }
+
+    /**
+     * Method: Returns the upper-case names of enum constants as ASCII bytes.
+     *
+     * @param constants The constants.
+     * @return Their upper-case names, in the same order.
+     */
+    private static byte[][] upperCaseNames(Enum<?>[] constants) {
+        byte[][] names = new byte[constants.length][];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = constants[i].name().toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        }
+        return names;
+    }
+
+    /**
+     * The Records class collects the providers parsed from part of a roster, in order.
+     */
+    private static final class Records {
+        private Provider[] providers = new Provider[INITIAL_CAPACITY];
+        private int size;
+        private int technicianCount;
+
+        /**
+         * Method: Adds a provider to the end of the records.
+         *
+         * @param provider The provider to add.
+         */
+        void add(Provider provider) {
+            if (size == providers.length) {
+                Provider[] resized = new Provider[providers.length * 2];
+                System.arraycopy(providers, 0, resized, 0, size);
+                providers = resized;
+            }
+            providers[size++] = provider;
+            if (provider instanceof Technician) {
+                technicianCount++;
+            }
+        }
+
+        /**
+         * Method: Appends another set of records after these ones.
+         *
+         * @param other The records to append.
+         * @return These records.
+         */
+        Records append(Records other) {
+            if (size + other.size > providers.length) {
+                Provider[] resized = new Provider[size + other.size];
+                System.arraycopy(providers, 0, resized, 0, size);
+                providers = resized;
+            }
+            System.arraycopy(other.providers, 0, providers, size, other.size);
+            size += other.size;
+            technicianCount += other.technicianCount;
+            return this;
+        }
+
+        /**
+         * Method: Builds the roster from the records.
+         *
+         * @return The roster.
+         */
+        Roster toRoster() {
+            Provider[] all = new Provider[size];
+            Technician[] technicians = new Technician[technicianCount];
+            int t = 0;
+            for (int i = 0; i < size; i++) {
+                all[i] = providers[i];
+                if (providers[i] instanceof Technician) {
+                    technicians[t++] = (Technician) providers[i];
+                }
+            }
+            return new Roster(all, technicians);
+        }
+    }
+
+    /**
+     * The ParseTask class parses a range of chunks, forking until one chunk remains,
+     * and joins the records back together in file order.
+     */
+    @SuppressWarnings("serial")
+    private static class ParseTask extends RecursiveTask<Records> {
+        private final ByteBuffer bytes;
+        private final int[] bounds;
+        private final int low;
+        private final int high;
+
+        /**
+         * Constructs a task parsing the chunks [low, high).
+         *
+         * @param bytes  The roster.
+         * @param bounds The chunk boundaries.
+         * @param low    The first chunk, inclusive.
+         * @param high   The last chunk, exclusive.
+         */
+        ParseTask(ByteBuffer bytes, int[] bounds, int low, int high) {
+            this.bytes = bytes;
+            this.bounds = bounds;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * Method: Parses the chunks, appending the second half's records to the first half's.
+         *
+         * @return The records in the chunks, in file order.
+         */
+        @Override
+        protected Records compute() {
+            if (high - low == 1) {
+                return parse(bytes, bounds[low], bounds[high]);
+            }
+            int mid = (low + high) >>> 1;
+            ParseTask first = new ParseTask(bytes, bounds, low, mid);
+            first.fork();
+            Records second = new ParseTask(bytes, bounds, mid, high).compute();
+            return first.join().append(second);
+        }
+    }
+}
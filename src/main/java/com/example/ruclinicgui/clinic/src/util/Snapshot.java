@@ -0,0 +1,620 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Doctor;
+import com.example.ruclinicgui.clinic.src.Imaging;
+import com.example.ruclinicgui.clinic.src.Location;
+import com.example.ruclinicgui.clinic.src.Person;
+import com.example.ruclinicgui.clinic.src.Profile;
+import com.example.ruclinicgui.clinic.src.Provider;
+import com.example.ruclinicgui.clinic.src.Radiology;
+import com.example.ruclinicgui.clinic.src.Specialty;
+import com.example.ruclinicgui.clinic.src.Technician;
+import com.example.ruclinicgui.clinic.src.Timeslot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The Snapshot class is a point-in-time copy of the clinic: the providers, the technician rotation and where it stands,
+ * and every booked appointment, together with the first booking journal segment it does not cover.
+ * On disk, names are stored once in a string table and appointments as columns of packed dates, timeslot ordinals,
+ * provider ids and patient ids, so a full book is read with a few bulk copies instead of record-by-record parsing.
+ * A snapshot is captured quickly on the thread that owns the appointments and written out later on any thread.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+public final class Snapshot {
+    private static final int MAGIC = 0x52554353;
+    private static final byte VERSION = 2;
+    private static final byte DOCTOR = 'D';
+    private static final byte TECHNICIAN = 'T';
+    private static final byte NO_ROOM = -1;
+    private static final int NONE = -1;
+    private static final int CHECKSUM = 4;
+    private static final int DATE_CACHE_LIMIT = 1 << 16;
+    private static final InternPool.Equivalence<String> EQUAL_STRING = new InternPool.Equivalence<String>() {
+        @Override
+        public int hash(String value) {
+            return value.hashCode();
+        }
+
+        @Override
+        public boolean same(String first, String second) {
+            return first.equals(second);
+        }
+    };
+    private static final InternPool.Equivalence<Provider> SAME_PROVIDER = new InternPool.Equivalence<Provider>() {
+        @Override
+        public int hash(Provider value) {
+            return System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean same(Provider first, Provider second) {
+            return first == second;
+        }
+    };
+    private static final InternPool.Equivalence<Profile> EXACT_PROFILE = new InternPool.Equivalence<Profile>() {
+        @Override
+        public int hash(Profile value) {
+            return value.hashCode();
+        }
+
+        @Override
+        public boolean same(Profile first, Profile second) {
+            return first.getFirstName().equals(second.getFirstName())
+                    && first.getLastName().equals(second.getLastName()) && first.getDob().equals(second.getDob());
+        }
+    };
+    private final Provider[] providers;
+    private final Technician[] rotation;
+    private final Technician next;
+    private final long journalSegment;
+    private final int size;
+    private final int[] dates;
+    private final byte[] timeslots;
+    private final byte[] rooms;
+    private final Provider[] bookedProviders;
+    private final int[] providerIds;
+    private final Person[] patients;
+    private final Person[] people;
+    private final int[] patientIds;
+    private final Date[] dateCache;
+    private final int firstDate;
+
+    /**
+     * Constructs a snapshot from its columns.
+     *
+     * @param providers       The providers in roster order.
+     * @param rotation        The technicians in rotation order.
+     * @param next            The technician the rotation is at, or null.
+     * @param journalSegment  The first booking journal segment the snapshot does not cover.
+     * @param size            The number of appointments.
+     * @param dates           The packed dates of the appointments.
+     * @param timeslots       The timeslot ordinals of the appointments.
+     * @param rooms           The room ordinals of the imaging appointments, or -1 for office visits.
+     * @param bookedProviders The providers of the appointments, or null if they are given by providerIds.
+     * @param providerIds     The roster positions of the providers of the appointments, or null.
+     * @param patients        The patients of the appointments, or null if they are given by patientIds.
+     * @param people          The distinct patients, or null.
+     * @param patientIds      The positions in people of the patients of the appointments, or null.
+     */
+    private Snapshot(Provider[] providers, Technician[] rotation, Technician next, long journalSegment, int size,
+                     int[] dates, byte[] timeslots, byte[] rooms, Provider[] bookedProviders, int[] providerIds,
+                     Person[] patients, Person[] people, int[] patientIds) {
+        this.providers = providers;
+        this.rotation = rotation;
+        this.next = next;
+        this.journalSegment = journalSegment;
+        this.size = size;
+        this.dates = dates;
+        this.timeslots = timeslots;
+        this.rooms = rooms;
+        this.bookedProviders = bookedProviders;
+        this.providerIds = providerIds;
+        this.patients = patients;
+        this.people = people;
+        this.patientIds = patientIds;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, dates[i]);
+            max = Math.max(max, dates[i]);
+        }
+        this.firstDate = min;
+        this.dateCache = size > 0 && (long) max - min < DATE_CACHE_LIMIT ? new Date[max - min + 1] : null;
+    }
+
+    /**
+     * Method: Copies the state of the clinic into a snapshot.
+     * Only references and primitive fields are copied, so this is cheap enough to run on the thread
+     * that changes the appointments, which guarantees the copy is consistent.
+     *
+     * @param providers     The providers in roster order.
+     * @param technicians   The technician rotation.
+     * @param pointer       The current position of the rotation, or null.
+     * @param appointments  The booked appointments.
+     * @param journalSegment The booking journal segment started when the copy is taken.
+     * @return The snapshot.
+     */
+    public static Snapshot capture(Provider[] providers, CircularLinkedList technicians, Node pointer,
+                                   List<Appointment> appointments, long journalSegment) {
+        Technician[] rotation = new Technician[technicians.getSize()];
+        Node curr = technicians.getHead();
+        for (int i = 0; i < rotation.length; i++) {
+            rotation[i] = curr.getTechnician();
+            curr = curr.getNext();
+        }
+        int size = appointments.size();
+        int[] dates = new int[size];
+        byte[] timeslots = new byte[size];
+        byte[] rooms = new byte[size];
+        Provider[] bookedProviders = new Provider[size];
+        Person[] patients = new Person[size];
+        for (int i = 0; i < size; i++) {
+            Appointment appointment = appointments.get(i);
+            dates[i] = appointment.getDate().packed();
+            timeslots[i] = (byte) appointment.getTimeslot().ordinal();
+            rooms[i] = appointment instanceof Imaging ? (byte) ((Imaging) appointment).getRoom().ordinal() : NO_ROOM;
+            bookedProviders[i] = appointment.getProvider();
+            patients[i] = appointment.getProfile();
+        }
+        return new Snapshot(providers.clone(), rotation, pointer == null ? null : pointer.getTechnician(),
+                journalSegment, size, dates, timeslots, rooms, bookedProviders, null, patients, null, null);
+    }
+
+    /**
+     * Method: Writes the snapshot to a file, replacing the file only once the new snapshot is completely on disk.
+     *
+     * @param path The snapshot file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        IdTable<String> strings = new IdTable<>(EQUAL_STRING);
+        IdTable<Provider> providerIds = new IdTable<>(SAME_PROVIDER);
+        IdTable<Profile> patientIds = new IdTable<>(EXACT_PROFILE);
+        for (Provider provider : providers) {
+            providerIds.idOf(provider);
+            strings.idOf(provider.getProfile().getFirstName());
+            strings.idOf(provider.getProfile().getLastName());
+            if (provider instanceof Doctor) {
+                strings.idOf(((Doctor) provider).getNPI());
+            }
+        }
+        int[] providerColumn = new int[size];
+        int[] patientColumn = new int[size];
+        for (int i = 0; i < size; i++) {
+            providerColumn[i] = providerIds.idOf(providerAt(i));
+            if (providerColumn[i] >= providers.length) {
+                throw new IOException("An appointment is booked with a provider that is not in the roster.");
+            }
+            patientColumn[i] = patientIds.idOf(patientAt(i).getProfile());
+        }
+        for (int i = 0; i < patientIds.size(); i++) {
+            strings.idOf(patientIds.valueAt(i).getFirstName());
+            strings.idOf(patientIds.valueAt(i).getLastName());
+        }
+        byte[][] encoded = new byte[strings.size()][];
+        long length = 4 + 1 + 8 + 4;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = strings.valueAt(i).getBytes(StandardCharsets.UTF_8);
+            length += 4 + encoded[i].length;
+        }
+        length += 4 + providers.length * 19L + 4 + rotation.length * 4L + 4
+                + 4 + patientIds.size() * 12L + 4 + size * 14L + CHECKSUM;
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("The clinic is too large for a snapshot.");
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) length);
+        out.putInt(MAGIC).put(VERSION).putLong(journalSegment).putInt(encoded.length);
+        for (byte[] string : encoded) {
+            out.putInt(string.length).put(string);
+        }
+        out.putInt(providers.length);
+        for (Provider provider : providers) {
+            Profile profile = provider.getProfile();
+            out.put(provider instanceof Doctor ? DOCTOR : TECHNICIAN)
+                    .putInt(strings.idOf(profile.getFirstName())).putInt(strings.idOf(profile.getLastName()))
+                    .putInt(profile.getDob().packed()).put((byte) provider.getLocation().ordinal());
+            if (provider instanceof Doctor) {
+                out.put((byte) ((Doctor) provider).getSpecialty().ordinal()).putInt(strings.idOf(((Doctor) provider).getNPI()));
+            } else {
+                out.put((byte) 0).putInt(provider.rate());
+            }
+        }
+        out.putInt(rotation.length);
+        for (Technician technician : rotation) {
+            out.putInt(providerIds.idOf(technician));
+        }
+        out.putInt(next == null ? NONE : providerIds.idOf(next));
+        out.putInt(patientIds.size());
+        for (int i = 0; i < patientIds.size(); i++) {
+            Profile profile = patientIds.valueAt(i);
+            out.putInt(strings.idOf(profile.getFirstName())).putInt(strings.idOf(profile.getLastName()))
+                    .putInt(profile.getDob().packed());
+        }
+        out.putInt(size);
+        out.asIntBuffer().put(dates, 0, size);
+        out.position(out.position() + size * 4);
+        out.put(timeslots, 0, size).put(rooms, 0, size);
+        out.asIntBuffer().put(providerColumn, 0, size).put(patientColumn, 0, size);
+        out.position(out.position() + size * 8);
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue());
+        out.flip();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Method: Reads a snapshot from a file.
+     *
+     * @param path The snapshot file.
+     * @return The snapshot, or null if there is no snapshot file.
+     * @throws IOException if the file cannot be read or is not a complete snapshot.
+     */
+    public static Snapshot read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("The snapshot is too large.");
+            }
+            in = ByteBuffer.allocate((int) channel.size());
+            while (in.hasRemaining()) {
+                if (channel.read(in) < 0) {
+                    throw new IOException("The clinic snapshot ended early.");
+                }
+            }
+            in.flip();
+        }
+        if (in.limit() < 4 + 1 + 8 + CHECKSUM || in.getInt(0) != MAGIC) {
+            throw new IOException("Not a clinic snapshot.");
+        }
+        if (in.get(4) != VERSION) {
+            throw new IOException("Unsupported clinic snapshot version.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(in.array(), 0, in.limit() - CHECKSUM);
+        if ((int) crc.getValue() != in.getInt(in.limit() - CHECKSUM)) {
+            throw new IOException("The clinic snapshot is damaged.");
+        }
+        in.position(5);
+        long journalSegment = in.getLong();
+        String[] strings = new String[in.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = in.getInt();
+            strings[i] = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        }
+        Provider[] providers = new Provider[in.getInt()];
+        for (int i = 0; i < providers.length; i++) {
+            byte kind = in.get();
+            Profile profile = Profile.of(strings[in.getInt()], strings[in.getInt()], DateParser.toDate(in.getInt()));
+            Location location = Location.values()[in.get()];
+            byte specialty = in.get();
+            int detail = in.getInt();
+            providers[i] = kind == DOCTOR
+                    ? new Doctor(profile, location, Specialty.values()[specialty], strings[detail])
+                    : new Technician(profile, location, detail);
+        }
+        Technician[] rotation = new Technician[in.getInt()];
+        for (int i = 0; i < rotation.length; i++) {
+            rotation[i] = (Technician) providers[in.getInt()];
+        }
+        int nextId = in.getInt();
+        Technician next = nextId == NONE ? null : (Technician) providers[nextId];
+        Person[] people = new Person[in.getInt()];
+        for (int i = 0; i < people.length; i++) {
+            people[i] = new Person(Profile.of(strings[in.getInt()], strings[in.getInt()], DateParser.toDate(in.getInt())));
+        }
+        int size = in.getInt();
+        int[] dates = new int[size];
+        byte[] timeslots = new byte[size];
+        byte[] rooms = new byte[size];
+        int[] providerColumn = new int[size];
+        int[] patientColumn = new int[size];
+        in.asIntBuffer().get(dates);
+        in.position(in.position() + size * 4);
+        in.get(timeslots).get(rooms);
+        in.asIntBuffer().get(providerColumn).get(patientColumn);
+        for (int i = 0; i < size; i++) {
+            if (providerColumn[i] < 0 || providerColumn[i] >= providers.length) {
+                throw new IOException("Unknown provider " + providerColumn[i] + " in clinic snapshot.");
+            }
+            if (patientColumn[i] < 0 || patientColumn[i] >= people.length) {
+                throw new IOException("Unknown patient " + patientColumn[i] + " in clinic snapshot.");
+            }
+        }
+        return new Snapshot(providers, rotation, next, journalSegment, size, dates, timeslots, rooms,
+                null, providerColumn, null, people, patientColumn);
+    }
+
+    /**
+     * Method: Moves a snapshot read from a file onto an equal roster, so its appointments refer to the given
+     * provider instances instead of the ones decoded from the file.
+     *
+     * @param roster The providers in roster order.
+     * @return The snapshot on the given roster, or null if the roster is not the one the snapshot was taken with.
+     * @throws IllegalStateException if the snapshot was captured rather than read from a file.
+     */
+    public Snapshot onRoster(Provider[] roster) {
+        if (providerIds == null) {
+            throw new IllegalStateException("Only a snapshot read from a file can be moved onto a roster.");
+        }
+        if (BookingLog.fingerprint(roster) != BookingLog.fingerprint(providers)) {
+            return null;
+        }
+        IdTable<Provider> ids = new IdTable<>(SAME_PROVIDER);
+        for (Provider provider : providers) {
+            ids.idOf(provider);
+        }
+        Technician[] moved = new Technician[rotation.length];
+        for (int i = 0; i < rotation.length; i++) {
+            moved[i] = (Technician) roster[ids.idOf(rotation[i])];
+        }
+        return new Snapshot(roster, moved, next == null ? null : (Technician) roster[ids.idOf(next)],
+                journalSegment, size, dates, timeslots, rooms, null, providerIds, patients, people, patientIds);
+    }
+
+    /**
+     * Method: Returns the providers in roster order.
+     *
+     * @return The providers.
+     */
+    public Provider[] providers() {
+        return providers;
+    }
+
+    /**
+     * Method: Returns the technicians in rotation order, starting from the head of the rotation.
+     *
+     * @return The technicians.
+     */
+    public Technician[] rotation() {
+        return rotation;
+    }
+
+    /**
+     * Method: Returns the technician the rotation is at.
+     *
+     * @return The technician, or null if there are no technicians.
+     */
+    public Technician next() {
+        return next;
+    }
+
+    /**
+     * Method: Returns the first booking journal segment the snapshot does not cover; the journal is replayed from there.
+     *
+     * @return The segment number.
+     */
+    public long journalSegment() {
+        return journalSegment;
+    }
+
+    /**
+     * Method: Returns the number of appointments in the snapshot.
+     *
+     * @return The number of appointments.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method: Builds one of the appointments in the snapshot.
+     *
+     * @param index The position of the appointment.
+     * @return The appointment.
+     */
+    public Appointment appointment(int index) {
+        Date date = dateAt(index);
+        Timeslot timeslot = Timeslot.of(timeslots[index]);
+        if (rooms[index] == NO_ROOM) {
+            return new Appointment(date, timeslot, patientAt(index), providerAt(index));
+        }
+        return new Imaging(date, timeslot, patientAt(index), providerAt(index), Radiology.values()[rooms[index]]);
+    }
+
+    /**
+     * Method: Posts the charge of every appointment in the snapshot to the patients' and providers' ledgers.
+     * The appointments of each patient and each provider are added up first, so every key is posted once,
+     * in the order its first appointment appears, as posting the appointments one by one would.
+     *
+     * @param patientCharges  The ledger of amounts due from patients.
+     * @param providerCredits The ledger of credits owed to providers.
+     * @param charges         The charge for an appointment with each provider, in roster order.
+     * @throws IllegalStateException if the snapshot was captured rather than read from a file.
+     */
+    public void postCharges(Ledger<Profile> patientCharges, Ledger<Provider> providerCredits, long[] charges) {
+        if (providerIds == null) {
+            throw new IllegalStateException("Only a snapshot read from a file can post its charges in bulk.");
+        }
+        Profile[] profiles = new Profile[people.length];
+        for (int i = 0; i < people.length; i++) {
+            profiles[i] = people[i].getProfile();
+        }
+        postTotals(patientCharges, profiles, patientIds, charges);
+        postTotals(providerCredits, providers, providerIds, charges);
+    }
+
+    /**
+     * Method: Adds up the charges of the appointments of each key and posts each total to a ledger.
+     *
+     * @param ledger  The ledger to post to.
+     * @param keys    The distinct keys.
+     * @param ids     The position in keys of the key of each appointment.
+     * @param charges The charge for an appointment with each provider, in roster order.
+     * @param <K>     The type of the keys.
+     */
+    private <K> void postTotals(Ledger<K> ledger, K[] keys, int[] ids, long[] charges) {
+        long[] amounts = new long[keys.length];
+        int[] counts = new int[keys.length];
+        int[] order = new int[keys.length];
+        int seen = 0;
+        for (int i = 0; i < size; i++) {
+            int id = ids[i];
+            if (counts[id]++ == 0) {
+                order[seen++] = id;
+            }
+            amounts[id] += charges[providerIds[i]];
+        }
+        for (int i = 0; i < seen; i++) {
+            ledger.post(keys[order[i]], amounts[order[i]], counts[order[i]]);
+        }
+    }
+
+    /**
+     * Method: Returns the patient of one of the appointments in the snapshot.
+     *
+     * @param index The position of the appointment.
+     * @return The patient.
+     */
+    private Person patientAt(int index) {
+        return patientIds == null ? patients[index] : people[patientIds[index]];
+    }
+
+    /**
+     * Method: Returns the provider of one of the appointments in the snapshot.
+     *
+     * @param index The position of the appointment.
+     * @return The provider.
+     */
+    private Provider providerAt(int index) {
+        return providerIds == null ? bookedProviders[index] : providers[providerIds[index]];
+    }
+
+    /**
+     * Method: Returns the date of one of the appointments in the snapshot.
+     * Most appointments fall on a few hundred days, so each day is decoded once and then reused.
+     *
+     * @param index The position of the appointment.
+     * @return The date.
+     */
+    private Date dateAt(int index) {
+        if (dateCache == null) {
+            return DateParser.toDate(dates[index]);
+        }
+        int slot = dates[index] - firstDate;
+        Date date = dateCache[slot];
+        if (date == null) {
+            date = DateParser.toDate(dates[index]);
+            dateCache[slot] = date;
+        }
+        return date;
+    }
+
+    /**
+     * The IdTable class numbers distinct values in the order they are first seen.
+     * Values are found through an open-addressing hash table with linear probing.
+     *
+     * @param <T> The type of the numbered values
+     */
+    private static final class IdTable<T> {
+        private final InternPool.Equivalence<T> equivalence;
+        private Object[] values = new Object[16];
+        private int[] table = new int[32];
+        private int size;
+
+        /**
+         * Constructor: Initializes an empty table.
+         *
+         * @param equivalence Decides when two values get the same number.
+         */
+        IdTable(InternPool.Equivalence<T> equivalence) {
+            this.equivalence = equivalence;
+        }
+
+        /**
+         * Method: Returns the number of a value, numbering it if it is new.
+         *
+         * @param value The value.
+         * @return The number of the value.
+         */
+        int idOf(T value) {
+            int mask = table.length - 1;
+            int slot = spread(equivalence.hash(value)) & mask;
+            while (table[slot] != 0) {
+                T seen = (T) values[table[slot] - 1];
+                if (seen == value || equivalence.same(seen, value)) {
+                    return table[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == values.length) {
+                Object[] grown = new Object[size * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size] = value;
+            table[slot] = ++size;
+            if (size * 2 > table.length) {
+                resize();
+            }
+            return size - 1;
+        }
+
+        /**
+         * Method: Returns the value with a number.
+         *
+         * @param id The number.
+         * @return The value.
+         */
+        T valueAt(int id) {
+            return (T) values[id];
+        }
+
+        /**
+         * Method: Returns the number of distinct values.
+         *
+         * @return The number of values.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Method: Doubles the capacity of the hash table and reinserts every value.
+         */
+        private void resize() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int id = 0; id < size; id++) {
+                int slot = spread(equivalence.hash((T) values[id])) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = id + 1;
+            }
+        }
+
+        /**
+         * Method: Scrambles a hash so that nearby hashes land in scattered slots.
+         *
+         * @param h The hash.
+         * @return The spread hash.
+         */
+        private static int spread(int h) {
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
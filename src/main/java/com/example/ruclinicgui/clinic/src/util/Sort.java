@@ -2,49 +2,279 @@ package com.example.ruclinicgui.clinic.src.util;
 
 
 import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Profile;
 import com.example.ruclinicgui.clinic.src.Provider;
 
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * This class provides sorting functionality for various types of lists,
  * specifically focusing on sorting appointments and providers.
+ * Every ordering is a comparator handed to a single stable merge sort,
+ * so sorting takes O(n log n) comparisons and keeps equal elements in list order.
+ * A parallel Sort splits large lists across the common fork-join pool and merges the sorted halves,
+ * producing exactly the same order as the sequential sort.
  * @author Nithya Konduru, Dhyanashri Raman
  * @param <E> The type of elements to be sorted, expected to be a subtype of Appointment.
  */
 public class Sort<E> {
+    private static final int INSERTION_THRESHOLD = 16;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final Comparator<Appointment> BY_APPOINTMENT = Appointment::compareByAppointment;
+    private static final Comparator<Appointment> BY_PATIENT = Appointment::compareByPatient;
+    private static final Comparator<Appointment> BY_LOCATION = Appointment::compareByLocation;
+    private static final Comparator<Appointment> BY_PROFILE_DESCENDING =
+            (first, second) -> second.getProfile().compareTo(first.getProfile());
+    private static final Comparator<Provider> BY_LAST_NAME =
+            (first, second) -> first.getProfile().getLastName().compareTo(second.getProfile().getLastName());
+    private static final Comparator<Provider> BY_PROVIDER_FOR_PRINT =
+            (first, second) -> first.getProfile().compareTo(second.getProfile());
+    private static final Comparator<Profile> BY_PATIENT_PROFILE = Profile::compareToIgnoreCase;
+    private final boolean parallel;
+
+    /**
+     * Default constructor: Initializes a Sort that sorts on the calling thread.
+     */
+    public Sort() {
+        this(false);
+    }
+
     /**
-     * Swaps two appointments in the list at specified indices.
+     * Constructor: Initializes a Sort that optionally sorts large lists in parallel.
+     * Lists shorter than the parallel threshold are always sorted sequentially.
      *
-     * @param appointments The list of appointments.
-     * @param i The index of the first appointment to swap.
-     * @param j The index of the second appointment to swap.
+     * @param parallel true to sort large lists on the common fork-join pool
      */
+    public Sort(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Sorts a list in ascending order of the given comparator.
+     * The sort is stable: elements that compare equal keep their relative order.
+     *
+     * @param list       The list to be sorted.
+     * @param comparator The ordering to sort by.
+     */
+    public void sort(List<E> list, Comparator<? super E> comparator) {
+        if (list.size() < 2) {
+            return;
+        }
+        Object[] elements = list.toArray();
+        sortElements(elements, (Comparator<Object>) comparator);
+        list.setAll(elements);
+    }
 
-    private void swapAppointments(List<E> appointments, int i, int j) {
-        E temp = appointments.get(i);
-        E second = appointments.get(j);
-        if (temp instanceof Appointment && second instanceof Appointment) {
-            appointments.set(i, second);
-            appointments.set(j, temp);
+    /**
+     * Sorts an array with the merge sort, in parallel when this Sort is parallel and the array is large.
+     *
+     * @param elements   The array to be sorted.
+     * @param comparator The ordering to sort by.
+     */
+    private void sortElements(Object[] elements, Comparator<Object> comparator) {
+        if (parallel && elements.length >= PARALLEL_THRESHOLD) {
+            parallelMergeSort(elements, comparator);
+        } else {
+            mergeSort(elements, comparator);
+        }
+    }
+
+    /**
+     * Returns a sorted view of a list in the given ordering, leaving the list itself untouched.
+     *
+     * @param list     The list to view.
+     * @param ordering The ordering of the view.
+     * @return A view of the list's elements in sorted order.
+     */
+    public SortedView<E> view(List<E> list, SortedView.Ordering ordering) {
+        int version = list.version();
+        Object[] elements = list.toArray();
+        order(elements, ordering);
+        return new SortedView<>(elements, list, version);
+    }
+
+    /**
+     * Sorts an array of appointments in the given ordering, radix sorting large arrays
+     * whose ordering has a packed key.
+     *
+     * @param elements The appointments to be sorted.
+     * @param ordering The ordering to sort by.
+     */
+    private void order(Object[] elements, SortedView.Ordering ordering) {
+        if (elements.length < 2) {
+            return;
+        }
+        switch (ordering) {
+            case APPOINTMENT -> {
+                if (!RadixSort.sortByAppointment(elements)) {
+                    sortElements(elements, (Comparator<Object>) (Comparator<?>) BY_APPOINTMENT);
+                }
+            }
+            case LOCATION -> {
+                if (!RadixSort.sortByLocation(elements)) {
+                    sortElements(elements, (Comparator<Object>) (Comparator<?>) BY_LOCATION);
+                }
+            }
+            case PATIENT -> sortElements(elements, (Comparator<Object>) (Comparator<?>) BY_PATIENT);
+        }
+    }
+
+    /**
+     * Sorts an array with the merge sort, sorting the halves of large ranges in parallel.
+     *
+     * @param elements   The array to be sorted.
+     * @param comparator The ordering to sort by.
+     */
+    static void parallelMergeSort(Object[] elements, Comparator<Object> comparator) {
+        if (elements.length < PARALLEL_THRESHOLD) {
+            mergeSort(elements, comparator);
+            return;
+        }
+        Object[] aux = elements.clone();
+        ForkJoinPool.commonPool().invoke(new MergeTask(aux, elements, 0, elements.length, comparator));
+    }
+
+    /**
+     * Sorts an array with a stable top-down merge sort.
+     *
+     * @param elements   The array to be sorted.
+     * @param comparator The ordering to sort by.
+     */
+    static void mergeSort(Object[] elements, Comparator<Object> comparator) {
+        Object[] aux = elements.clone();
+        mergeSort(aux, elements, 0, elements.length, comparator);
+    }
+
+    /**
+     * Sorts the range [low, high) into dest, using src as scratch space.
+     * Both arrays must hold the same elements in the range when called.
+     *
+     * @param src        The scratch array.
+     * @param dest       The array receiving the sorted range.
+     * @param low        The first index of the range, inclusive.
+     * @param high       The last index of the range, exclusive.
+     * @param comparator The ordering to sort by.
+     */
+    static void mergeSort(Object[] src, Object[] dest, int low, int high, Comparator<Object> comparator) {
+        int length = high - low;
+        if (length < INSERTION_THRESHOLD) {
+            insertionSort(dest, low, high, comparator);
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, comparator);
+        mergeSort(dest, src, mid, high, comparator);
+        merge(src, dest, low, mid, high, comparator);
+    }
+
+    /**
+     * Merges the sorted runs [low, mid) and [mid, high) of src into dest.
+     * Ties are taken from the left run so the merge is stable.
+     *
+     * @param src        The array holding the two sorted runs.
+     * @param dest       The array receiving the merged range.
+     * @param low        The first index of the left run.
+     * @param mid        The first index of the right run.
+     * @param high       The end of the right run, exclusive.
+     * @param comparator The ordering to merge by.
+     */
+    static void merge(Object[] src, Object[] dest, int low, int mid, int high, Comparator<Object> comparator) {
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+        int left = low;
+        int right = mid;
+        for (int i = low; i < high; i++) {
+            if (right >= high || (left < mid && comparator.compare(src[left], src[right]) <= 0)) {
+                dest[i] = src[left++];
+            } else {
+                dest[i] = src[right++];
+            }
+        }
+    }
+
+    /**
+     * Sorts a short range in place with a stable insertion sort.
+     *
+     * @param elements   The array holding the range.
+     * @param low        The first index of the range, inclusive.
+     * @param high       The last index of the range, exclusive.
+     * @param comparator The ordering to sort by.
+     */
+    private static void insertionSort(Object[] elements, int low, int high, Comparator<Object> comparator) {
+        for (int i = low + 1; i < high; i++) {
+            Object current = elements[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(elements[j], current) > 0) {
+                elements[j + 1] = elements[j];
+                j--;
+            }
+            elements[j + 1] = current;
+        }
+    }
+
+    /**
+     * The MergeTask class sorts a range of an array as a fork-join task.
+     * It splits exactly like the sequential merge sort, sorting both halves in parallel
+     * until a range is below the parallel threshold, then merges them on the joining thread.
+     */
+    @SuppressWarnings("serial")
+    private static class MergeTask extends RecursiveAction {
+        private final Object[] src;
+        private final Object[] dest;
+        private final int low;
+        private final int high;
+        private final Comparator<Object> comparator;
+
+        /**
+         * Constructs a task sorting the range [low, high) into dest, using src as scratch space.
+         *
+         * @param src        The scratch array.
+         * @param dest       The array receiving the sorted range.
+         * @param low        The first index of the range, inclusive.
+         * @param high       The last index of the range, exclusive.
+         * @param comparator The ordering to sort by.
+         */
+        MergeTask(Object[] src, Object[] dest, int low, int high, Comparator<Object> comparator) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+        }
+
+        /**
+         * Sorts the range, forking the two halves when it is large enough.
+         */
+        @Override
+        protected void compute() {
+            if (high - low < PARALLEL_THRESHOLD) {
+                mergeSort(src, dest, low, high, comparator);
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            invokeAll(new MergeTask(dest, src, low, mid, comparator),
+                    new MergeTask(dest, src, mid, high, comparator));
+            merge(src, dest, low, mid, high, comparator);
         }
     }
 
     /**
      * Sorts a list of appointments in ascending order based on their attributes.
+     * Large lists are radix sorted on a packed date/timeslot/provider key.
      *
      * @param list The list of appointments to be sorted.
      */
     public void sortByAppointment(List<E> list) {
-        for (int i = 0; i < list.size() - 1; i++) {
-            for (int j = 0; j < list.size() - i - 1; j++) {
-                E obj = list.get(j);
-                E obj2 = list.get(j+1);
-                if (obj instanceof Appointment && obj2 instanceof Appointment) {
-                    if (((Appointment) obj).compareByAppointment((Appointment) obj2) > 0) {
-                        swapAppointments(list, j, j + 1);
-                    }
-                }
-            }
+        if (list.size() < 2) {
+            return;
         }
+        Object[] elements = list.toArray();
+        order(elements, SortedView.Ordering.APPOINTMENT);
+        list.setAll(elements);
     }
 
     /**
@@ -53,18 +283,7 @@ public class Sort<E> {
      * @param list The list of providers to be sorted.
      */
     public void sortByProvider(List<Provider> list) {
-        int n = list.size();
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - i - 1; j++) {
-                String lastName1 = list.get(j).getProfile().getLastName();
-                String lastName2 = list.get(j + 1).getProfile().getLastName();
-                if (lastName1.compareTo(lastName2) > 0) {
-                    Provider temp = list.get(j);
-                    list.set(j, list.get(j + 1));
-                    list.set(j + 1, temp);
-                }
-            }
-        }
+        ((Sort<Provider>) this).sort(list, BY_LAST_NAME);
     }
 
     /**
@@ -74,37 +293,17 @@ public class Sort<E> {
      * @param list The list of providers to be sorted.
      */
     public void sortByProviderForPrint(List<Provider> list) {
-        int n = list.size();
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - i - 1; j++) {
-                String lastName1 = list.get(j).getProfile().getLastName();
-                String lastName2 = list.get(j + 1).getProfile().getLastName();
-                String firstName1 = list.get(j).getProfile().getFirstName();
-                String firstName2 = list.get(j + 1).getProfile().getFirstName();
-                Date dob1 = list.get(j).getProfile().getDob();
-                Date dob2 = list.get(j + 1).getProfile().getDob();
-                if (lastName1.compareTo(lastName2) > 0) {
-                    Provider temp = list.get(j);
-                    list.set(j, list.get(j + 1));
-                    list.set(j + 1, temp);
-                }
-                if (lastName1.equals(lastName2)) {
-                    if (firstName1.compareTo(firstName2) > 0) {
-                        Provider temp = list.get(j);
-                        list.set(j, list.get(j + 1));
-                        list.set(j + 1, temp);
-                    }
-                    else if (firstName1.equals(firstName2)) {
-                        if (dob1.compareTo(dob2) > 0) {
-                            Provider temp = list.get(j);
-                            list.set(j, list.get(j + 1));
-                            list.set(j + 1, temp);
-                        }
-                    }
+        ((Sort<Provider>) this).sort(list, BY_PROVIDER_FOR_PRINT);
+    }
 
-                }
-            }
-        }
+    /**
+     * Sorts a list of patient profiles in the order the billing statement lists them,
+     * by last name, first name and date of birth, ignoring letter case.
+     *
+     * @param list The list of profiles to be sorted.
+     */
+    public void sortByPatientProfile(List<Profile> list) {
+        ((Sort<Profile>) this).sort(list, BY_PATIENT_PROFILE);
     }
 
     /**
@@ -114,56 +313,37 @@ public class Sort<E> {
      */
     public void sortByPatient(List<E> list)
     {
-        for (int i = 0; i < list.size() - 1; i++) {
-            for (int j = 0; j < list.size() - i - 1; j++) {
-                E obj = list.get(j);
-                E obj2 = list.get(j+1);
-                if (obj instanceof Appointment && obj2 instanceof Appointment) {
-                    if (((Appointment) obj).compareByPatient((Appointment) obj2) > 0) {
-                        swapAppointments(list, j, j + 1);
-                    }
-                }
-            }
+        if (list.size() < 2) {
+            return;
         }
+        Object[] elements = list.toArray();
+        order(elements, SortedView.Ordering.PATIENT);
+        list.setAll(elements);
     }
 
     /**
      * Sorts a list of appointments in ascending order based on their locations.
+     * Large lists are radix sorted on a packed county/date/timeslot key.
      *
      * @param list The list of appointments to be sorted.
      */
     public void sortByLocation(List<E> list)
     {
-        for (int i = 0; i < list.size() - 1; i++) {
-            for (int j = 0; j < list.size() - i - 1; j++) {
-                E obj = list.get(j);
-                E obj2 = list.get(j+1);
-                if (obj instanceof Appointment && obj2 instanceof Appointment) {
-                        if (((Appointment) obj).compareByLocation((Appointment) obj2) > 0) {
-                            swapAppointments(list, j, j + 1);
-                        }
-                }
-            }
+        if (list.size() < 2) {
+            return;
         }
+        Object[] elements = list.toArray();
+        order(elements, SortedView.Ordering.LOCATION);
+        list.setAll(elements);
     }
 
     /**
-     * Sorts a list of appointments in ascending order based on their profiles.
+     * Sorts a list of appointments in descending order based on their profiles.
      *
      * @param list The list of appointments to be sorted.
      */
     public void sortByProfile(List<E> list)
     {
-        for (int i = 0; i < list.size() - 1; i++) {
-            for (int j = 0; j < list.size() - i - 1; j++) {
-                E obj = list.get(j);
-                E obj2 = list.get(j+1);
-                if (obj instanceof Appointment && obj2 instanceof Appointment) {
-                    if (((Appointment) obj).getProfile().compareTo(((Appointment) obj2).getProfile()) < 0) {
-                        swapAppointments(list, j, j + 1);
-                    }
-                }
-            }
-        }
+        sort(list, (Comparator<? super E>) BY_PROFILE_DESCENDING);
     }
 }
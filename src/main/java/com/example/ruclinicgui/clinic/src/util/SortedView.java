@@ -0,0 +1,98 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import java.util.Iterator;
+
+/**
+ * The SortedView class is a read-only, sorted snapshot of the elements of a List.
+ * It holds references to the list's elements in sorted order without reordering the list itself,
+ * and remembers the version of the list it was taken from so a cache can tell when it is stale.
+ * @author Nithya Konduru, Dhyanashri Raman
+ * @param <E> The type of elements in the view
+ */
+public class SortedView<E> implements Iterable<E> {
+    /**
+     * The orderings a view can be sorted by.
+     */
+    public enum Ordering {
+        APPOINTMENT,
+        PATIENT,
+        LOCATION
+    }
+
+    private final Object[] elements;
+    private final List<E> source;
+    private final int version;
+
+    /**
+     * Constructs a view over sorted elements taken from a list.
+     *
+     * @param elements The elements of the list in sorted order.
+     * @param source   The list the elements were taken from.
+     * @param version  The version of the list when the elements were taken.
+     */
+    SortedView(Object[] elements, List<E> source, int version) {
+        this.elements = elements;
+        this.source = source;
+        this.version = version;
+    }
+
+    /**
+     * Method: Checks whether the view still reflects a list.
+     *
+     * @param list The list to check against.
+     * @return true if the view was taken from the list and the list has not changed since.
+     */
+    boolean isCurrent(List<E> list) {
+        return source == list && version == list.version();
+    }
+
+    /**
+     * Method: Retrieves the element at the specified position in sorted order.
+     *
+     * @param index The position of the element.
+     * @return The element at the position.
+     */
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    /**
+     * Method: Returns the number of elements in the view.
+     *
+     * @return The size of the view.
+     */
+    public int size() {
+        return elements.length;
+    }
+
+    /**
+     * Method: Checks if the view is empty.
+     *
+     * @return true if the view is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    /**
+     * Method: Returns an iterator over the elements in sorted order.
+     *
+     * @return An iterator over the view.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int currIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return currIndex < elements.length;
+            }
+
+            @Override
+            public E next() {
+                return (E) elements[currIndex++];
+            }
+        };
+    }
+}
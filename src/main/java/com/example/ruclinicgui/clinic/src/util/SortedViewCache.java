@@ -0,0 +1,48 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+/**
+ * The SortedViewCache class keeps the most recent sorted view of a list for each ordering.
+ * A cached view is reused until the list is written to, so asking for the same report twice
+ * does no sorting work, and the list itself is never reordered.
+ * @author Nithya Konduru, Dhyanashri Raman
+ * @param <E> The type of elements in the views
+ */
+public class SortedViewCache<E> {
+    private final Sort<E> sort;
+    private final SortedView<E>[] views;
+
+    /**
+     * Default constructor: Initializes an empty cache whose views are sorted in parallel when large.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public SortedViewCache() {
+        this.sort = new Sort<>(true);
+        this.views = (SortedView<E>[]) new SortedView[SortedView.Ordering.values().length];
+    }
+
+    /**
+     * Method: Returns a view of a list in the given ordering, sorting only if the list
+     * changed since the cached view was taken.
+     *
+     * @param list     The list to view.
+     * @param ordering The ordering of the view.
+     * @return The sorted view of the list.
+     */
+    public SortedView<E> get(List<E> list, SortedView.Ordering ordering) {
+        SortedView<E> view = views[ordering.ordinal()];
+        if (view == null || !view.isCurrent(list)) {
+            view = sort.view(list, ordering);
+            views[ordering.ordinal()] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Method: Drops every cached view.
+     */
+    public void clear() {
+        for (int i = 0; i < views.length; i++) {
+            views[i] = null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.ruclinicgui.clinic.src;
+
+import com.example.ruclinicgui.clinic.src.util.Date;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the ClinicService restores its appointment book from the booking journal and the snapshot
+ * kept next to the provider file.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+class ClinicServiceTest {
+    private static final String ROSTER = String.join(System.lineSeparator(),
+            "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01",
+            "D  RACHAEL  LIM  11/30/1975  BRIDGEWATER  PEDIATRICIAN  23",
+            "D  TOM  KAUR  11/05/1972  PRINCETON  ALLERGIST  54",
+            "T  GARY  JOHNSON  11/14/1987  PISCATAWAY  110",
+            "T  BEN  JERRY  9/28/1987  PISCATAWAY  150",
+            "T  JENNY  PATEL  1/28/1989  BRIDGEWATER  125",
+            "");
+    private static final int CHECKPOINT_AFTER_REPLAYED = 10000;
+
+    @TempDir
+    Path dir;
+
+    private final ArrayList<String> warnings = new ArrayList<>();
+
+    /**
+     * Method: Returns a weekday a week or so from today, which the booking rules accept.
+     *
+     * @return The appointment date.
+     */
+    private static Date bookableDate() {
+        LocalDate day = LocalDate.now().plusDays(7);
+        while (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            day = day.plusDays(1);
+        }
+        return Date.of(day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+    }
+
+    /**
+     * Method: Creates a patient.
+     *
+     * @param name The patient's first name.
+     * @return The patient.
+     */
+    private static Person patient(String name) {
+        return new Person(Profile.of(name, "Doe", Date.of(1990, 1, 2)));
+    }
+
+    /**
+     * Method: Writes a provider file into the test directory.
+     *
+     * @param roster The provider file contents.
+     * @return The provider file.
+     * @throws IOException if the file cannot be written.
+     */
+    private Path providerFile(String roster) throws IOException {
+        Path file = dir.resolve("providers.txt");
+        Files.writeString(file, roster);
+        return file;
+    }
+
+    /**
+     * Method: Opens a clinic on a provider file, collecting its warnings.
+     *
+     * @param file The provider file.
+     * @return The clinic.
+     * @throws IOException if the provider file cannot be read.
+     */
+    private ClinicService open(Path file) throws IOException {
+        ClinicService service = new ClinicService();
+        service.open(file, (title, message) -> warnings.add(title + ": " + message));
+        return service;
+    }
+
+    /**
+     * Method: Books an office visit with every doctor and an imaging service in every room,
+     * then cancels and reschedules one of each.
+     *
+     * @param service The clinic.
+     * @param date    The appointment date.
+     */
+    private static void bookDay(ClinicService service, Date date) {
+        int n = 0;
+        for (String listing : service.doctorListings()) {
+            assertTrue(service.schedule(date, Timeslot.of(n), patient("Office" + n), service.provider(listing)).isDone());
+            n++;
+        }
+        for (String room : new String[]{"xray", "catscan", "ultrasound"}) {
+            for (int slot = 0; slot < 3; slot++) {
+                assertTrue(service.scheduleImaging(date, Timeslot.of(slot), patient(room + slot), room).isDone());
+            }
+        }
+        assertTrue(service.cancel(date, Timeslot.of(0), patient("Office0")).isDone());
+        assertTrue(service.reschedule(date, Timeslot.of(1), Timeslot.of(9), patient("Office1")).isDone());
+        assertTrue(service.reschedule(date, Timeslot.of(2), Timeslot.of(10), patient("xray2")).isDone());
+    }
+
+    /**
+     * Method: Prints everything a restored clinic has to agree on.
+     *
+     * @param service The clinic.
+     * @return The appointments, charges and technician rotation.
+     */
+    private static String state(ClinicService service) {
+        return service.size() + service.printByAppointment() + service.printAllCharges()
+                + service.printProviderCharges() + service.printProviders();
+    }
+
+    /**
+     * Method: Lists the files next to the provider file.
+     *
+     * @return The file names, sorted.
+     * @throws IOException if the directory cannot be listed.
+     */
+    private String[] files() throws IOException {
+        try (Stream<Path> listing = Files.list(dir)) {
+            return listing.map(path -> path.getFileName().toString()).sorted().toArray(String[]::new);
+        }
+    }
+
+    /**
+     * Method: A clinic reopened on the same provider file holds the same appointments, charges and rotation.
+     */
+    @Test
+    void reopenRestoresBook() throws IOException {
+        Path file = providerFile(ROSTER);
+        ClinicService service = open(file);
+        bookDay(service, bookableDate());
+        String before = state(service);
+        service.close();
+
+        ClinicService reopened = open(file);
+        assertEquals(before, state(reopened));
+        reopened.close();
+        assertTrue(warnings.isEmpty(), warnings.toString());
+    }
+
+    /**
+     * Method: A provider file that lists a provider twice still restores every appointment onto the right provider.
+     */
+    @Test
+    void reopenWithRepeatedRosterLine() throws IOException {
+        String first = ROSTER.substring(0, ROSTER.indexOf(System.lineSeparator()) + System.lineSeparator().length());
+        Path file = providerFile(first + ROSTER);
+        ClinicService service = open(file);
+        bookDay(service, bookableDate());
+        String before = state(service);
+        service.close();
+
+        ClinicService reopened = open(file);
+        assertEquals(before, state(reopened));
+        reopened.close();
+        assertTrue(warnings.isEmpty(), warnings.toString());
+    }
+
+    /**
+     * Method: A long journal is checkpointed into a snapshot, and the clinic restores from the snapshot
+     * and the journal after it.
+     */
+    @Test
+    void checkpointedBookRestores() throws IOException {
+        Path file = providerFile(ROSTER);
+        Date date = bookableDate();
+        ClinicService service = open(file);
+        Provider doctor = service.provider(service.doctorListings()[0]);
+        for (int i = 0; i < CHECKPOINT_AFTER_REPLAYED / 2; i++) {
+            service.schedule(date, Timeslot.of(11), patient("Churn"), doctor);
+            service.cancel(date, Timeslot.of(11), patient("Churn"));
+        }
+        bookDay(service, date);
+        String before = state(service);
+        service.close();
+
+        ClinicService checkpointed = open(file);
+        checkpointed.close();
+        assertTrue(Files.exists(dir.resolve("providers.txt.snapshot")));
+        assertFalse(Files.exists(dir.resolve("providers.txt.journal.0")));
+
+        ClinicService restored = open(file);
+        assertEquals(before, state(restored));
+        restored.close();
+        assertTrue(warnings.isEmpty(), warnings.toString());
+    }
+
+    /**
+     * Method: A damaged snapshot whose journal segments were already deleted is reported,
+     * and neither it nor the remaining journal is touched.
+     */
+    @Test
+    void damagedSnapshotLeavesFilesAlone() throws IOException {
+        Path file = providerFile(ROSTER);
+        Date date = bookableDate();
+        ClinicService service = open(file);
+        Provider doctor = service.provider(service.doctorListings()[0]);
+        for (int i = 0; i < CHECKPOINT_AFTER_REPLAYED / 2; i++) {
+            service.schedule(date, Timeslot.of(11), patient("Churn"), doctor);
+            service.cancel(date, Timeslot.of(11), patient("Churn"));
+        }
+        bookDay(service, date);
+        service.close();
+        open(file).close();
+        Path snapshot = dir.resolve("providers.txt.snapshot");
+        byte[] damaged = Files.readAllBytes(snapshot);
+        damaged[damaged.length / 2] ^= 1;
+        Files.write(snapshot, damaged);
+        String[] before = files();
+        Path journal = dir.resolve("providers.txt.journal.1");
+        byte[] journaled = Files.readAllBytes(journal);
+
+        ClinicService reopened = open(file);
+        assertEquals(2, warnings.size(), warnings.toString());
+        assertTrue(reopened.schedule(date, Timeslot.of(11), patient("Later"), doctor).isDone());
+        reopened.close();
+        assertArrayEquals(before, files());
+        assertArrayEquals(damaged, Files.readAllBytes(snapshot));
+        assertArrayEquals(journaled, Files.readAllBytes(journal));
+    }
+}
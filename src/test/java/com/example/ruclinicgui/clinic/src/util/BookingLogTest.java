@@ -0,0 +1,235 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Imaging;
+import com.example.ruclinicgui.clinic.src.Person;
+import com.example.ruclinicgui.clinic.src.Profile;
+import com.example.ruclinicgui.clinic.src.Provider;
+import com.example.ruclinicgui.clinic.src.Radiology;
+import com.example.ruclinicgui.clinic.src.Technician;
+import com.example.ruclinicgui.clinic.src.Timeslot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the BookingLog class: replaying what was recorded, torn records, segment rotation
+ * and the rosters the journal is numbered against.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+class BookingLogTest {
+    private static final String ROSTER = String.join(System.lineSeparator(),
+            "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01",
+            "D  RACHAEL  LIM  11/30/1975  BRIDGEWATER  PEDIATRICIAN  23",
+            "T  GARY  JOHNSON  11/14/1987  PISCATAWAY  110",
+            "T  BEN  JERRY  9/28/1987  PISCATAWAY  150",
+            "");
+    private static final Date DATE = Date.of(2026, 11, 17);
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Records the changes replayed from a journal as text, in order.
+     */
+    private static final class Recorder implements BookingLog.Listener {
+        private final ArrayList<String> events = new ArrayList<>();
+        private final ArrayList<Appointment> booked = new ArrayList<>();
+
+        @Override
+        public void booked(Appointment appointment, Technician next) {
+            events.add("B " + appointment + " next " + next);
+            booked.add(appointment);
+        }
+
+        @Override
+        public void canceled(Profile patient, Date date, Timeslot timeslot) {
+            events.add("C " + patient + " " + date + " " + timeslot);
+        }
+
+        @Override
+        public void rescheduled(Profile patient, Date date, Timeslot from, Timeslot to) {
+            events.add("R " + patient + " " + date + " " + from + " " + to);
+        }
+    }
+
+    /**
+     * Method: Loads a roster file written into the test directory.
+     *
+     * @param lines The provider file contents.
+     * @return The providers in roster order.
+     * @throws IOException if the file cannot be written or read.
+     */
+    private Provider[] roster(String lines) throws IOException {
+        Path file = dir.resolve("providers.txt");
+        Files.writeString(file, lines);
+        return RosterLoader.load(file).providers();
+    }
+
+    /**
+     * Method: Creates a patient.
+     *
+     * @param name The patient's first name.
+     * @return The patient.
+     */
+    private static Person patient(String name) {
+        return new Person(Profile.of(name, "Doe", Date.of(1990, 1, 2)));
+    }
+
+    /**
+     * Method: Every recorded change is replayed in order, onto the roster's own providers.
+     */
+    @Test
+    void replaysEveryChangeAfterReopen() throws IOException {
+        Provider[] roster = roster(ROSTER);
+        Path base = dir.resolve("providers.txt.journal");
+        Appointment office = new Appointment(DATE, Timeslot.of(1), patient("Ann"), roster[0]);
+        Imaging imaging = new Imaging(DATE, Timeslot.of(3), patient("Bob"), roster[2], Radiology.CATSCAN);
+        BookingLog log = BookingLog.open(base, roster, 0, new Recorder());
+        log.booked(office, null);
+        log.booked(imaging, (Technician) roster[3]);
+        log.rescheduled(office, Timeslot.of(5));
+        log.canceled(imaging);
+        log.close();
+
+        Recorder replayed = new Recorder();
+        BookingLog.open(base, roster, 0, replayed).close();
+        assertEquals(4, replayed.events.size());
+        assertEquals("B " + office + " next null", replayed.events.get(0));
+        assertEquals("B " + imaging + " next " + roster[3], replayed.events.get(1));
+        assertSame(roster[0], replayed.booked.get(0).getProvider());
+        assertSame(roster[2], replayed.booked.get(1).getProvider());
+        assertEquals(Radiology.CATSCAN, ((Imaging) replayed.booked.get(1)).getRoom());
+    }
+
+    /**
+     * Method: A record cut short at the end is dropped, and new changes are appended where it started.
+     */
+    @Test
+    void tornTailRecordIsDroppedAndWrittenOver() throws IOException {
+        Provider[] roster = roster(ROSTER);
+        Path base = dir.resolve("providers.txt.journal");
+        Appointment first = new Appointment(DATE, Timeslot.of(1), patient("Ann"), roster[0]);
+        Appointment second = new Appointment(DATE, Timeslot.of(2), patient("Bob"), roster[1]);
+        BookingLog log = BookingLog.open(base, roster, 0, new Recorder());
+        log.booked(first, null);
+        log.booked(second, null);
+        log.close();
+        Path segment = dir.resolve("providers.txt.journal.0");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        Recorder torn = new Recorder();
+        log = BookingLog.open(base, roster, 0, torn);
+        assertEquals(1, torn.events.size());
+        log.canceled(first);
+        log.close();
+
+        Recorder replayed = new Recorder();
+        BookingLog.open(base, roster, 0, replayed).close();
+        assertEquals(2, replayed.events.size());
+        assertEquals("C " + first.getProfile().getProfile() + " " + DATE + " " + Timeslot.of(1), replayed.events.get(1));
+    }
+
+    /**
+     * Method: Rotated segments replay in order, and a snapshot's first segment skips the ones before it.
+     */
+    @Test
+    void rotatedSegmentsReplayInOrder() throws IOException {
+        Provider[] roster = roster(ROSTER);
+        Path base = dir.resolve("providers.txt.journal");
+        Appointment first = new Appointment(DATE, Timeslot.of(1), patient("Ann"), roster[0]);
+        Appointment second = new Appointment(DATE, Timeslot.of(2), patient("Bob"), roster[1]);
+        BookingLog log = BookingLog.open(base, roster, 0, new Recorder());
+        log.booked(first, null);
+        log.rotate().close();
+        log.booked(second, null);
+        log.rotate().close();
+        log.canceled(first);
+        assertEquals(2, log.segment());
+        log.close();
+
+        Recorder all = new Recorder();
+        BookingLog.open(base, roster, 0, all).close();
+        assertEquals(3, all.events.size());
+        assertEquals("B " + first + " next null", all.events.get(0));
+        assertEquals("B " + second + " next null", all.events.get(1));
+        assertEquals('C', all.events.get(2).charAt(0));
+
+        Recorder uncovered = new Recorder();
+        BookingLog.open(base, roster, 1, uncovered).close();
+        assertEquals(2, uncovered.events.size());
+        assertEquals("B " + second + " next null", uncovered.events.get(0));
+    }
+
+    /**
+     * Method: A gap before the remaining segments is refused, and the segments are left as they were.
+     */
+    @Test
+    void missingSegmentIsRefusedWithoutTouchingFiles() throws IOException {
+        Provider[] roster = roster(ROSTER);
+        Path base = dir.resolve("providers.txt.journal");
+        BookingLog log = BookingLog.open(base, roster, 0, new Recorder());
+        log.booked(new Appointment(DATE, Timeslot.of(1), patient("Ann"), roster[0]), null);
+        log.rotate().close();
+        log.booked(new Appointment(DATE, Timeslot.of(2), patient("Bob"), roster[1]), null);
+        log.deleteSegmentsBefore(1);
+        log.close();
+        Path segment = dir.resolve("providers.txt.journal.1");
+        byte[] before = Files.readAllBytes(segment);
+
+        assertThrows(IOException.class, () -> BookingLog.open(base, roster, 0, new Recorder()));
+        assertArrayEquals(before, Files.readAllBytes(segment));
+        Recorder uncovered = new Recorder();
+        BookingLog.open(base, roster, 1, uncovered).close();
+        assertEquals(1, uncovered.events.size());
+    }
+
+    /**
+     * Method: A repeated roster line does not shift the providers after it when replaying.
+     */
+    @Test
+    void repeatedRosterLineKeepsProvidersApart() throws IOException {
+        String first = ROSTER.substring(0, ROSTER.indexOf(System.lineSeparator()) + System.lineSeparator().length());
+        Provider[] roster = roster(first + ROSTER);
+        Path base = dir.resolve("providers.txt.journal");
+        Imaging imaging = new Imaging(DATE, Timeslot.of(3), patient("Bob"), roster[4], Radiology.XRAY);
+        Appointment office = new Appointment(DATE, Timeslot.of(1), patient("Ann"), roster[2]);
+        BookingLog log = BookingLog.open(base, roster, 0, new Recorder());
+        log.booked(imaging, (Technician) roster[3]);
+        log.booked(office, null);
+        log.close();
+
+        Recorder replayed = new Recorder();
+        BookingLog.open(base, roster, 0, replayed).close();
+        assertEquals(2, replayed.events.size());
+        assertSame(roster[4], replayed.booked.get(0).getProvider());
+        assertSame(roster[2], replayed.booked.get(1).getProvider());
+    }
+
+    /**
+     * Method: A journal written for a different roster is not replayed.
+     */
+    @Test
+    void journalOfAnotherRosterIsRefused() throws IOException {
+        Provider[] roster = roster(ROSTER);
+        Path base = dir.resolve("providers.txt.journal");
+        BookingLog log = BookingLog.open(base, roster, 0, new Recorder());
+        log.booked(new Appointment(DATE, Timeslot.of(1), patient("Ann"), roster[0]), null);
+        log.close();
+        Provider[] other = new Provider[]{roster[1], roster[0], roster[2], roster[3]};
+        assertThrows(IOException.class, () -> BookingLog.open(base, other, 0, new Recorder()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the List class, in particular the holes an indexed list leaves on removal
+ * and the compaction that closes them up.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+class ListTest {
+
+    /**
+     * Method: Removing from the middle of an indexed list keeps lookups and positions consistent.
+     */
+    @Test
+    void removeLeavesHoleThatGetClosesUp() {
+        List<String> list = new List<>(true);
+        for (String s : new String[]{"a", "b", "c", "d", "e"}) {
+            list.add(s);
+        }
+        list.remove("b");
+        list.remove("d");
+        assertEquals(3, list.size());
+        assertFalse(list.contains("b"));
+        assertTrue(list.contains("e"));
+        assertEquals("a", list.get(0));
+        assertEquals("c", list.get(1));
+        assertEquals("e", list.get(2));
+        assertEquals(2, list.indexOf("e"));
+        assertEquals(-1, list.indexOf("d"));
+    }
+
+    /**
+     * Method: indexOf reports the position an element has once the holes before it are closed.
+     */
+    @Test
+    void indexOfPastHoleCompacts() {
+        List<String> list = new List<>(true);
+        for (int i = 0; i < 10; i++) {
+            list.add("x" + i);
+        }
+        list.remove("x2");
+        assertEquals(1, list.indexOf("x1"));
+        assertEquals(8, list.indexOf("x9"));
+        assertEquals("x9", list.get(8));
+    }
+
+    /**
+     * Method: Removing the last elements trims the list instead of leaving holes at the end.
+     */
+    @Test
+    void removingTailLeavesNoHole() {
+        List<String> list = new List<>(true);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.remove("c");
+        list.remove("b");
+        list.add("d");
+        assertEquals(2, list.size());
+        assertEquals("d", list.get(1));
+        assertEquals(1, list.indexOf("d"));
+    }
+
+    /**
+     * Method: Adding to a full array with many holes reuses their room rather than growing.
+     */
+    @Test
+    void addIntoFullArrayCompactsHoles() {
+        List<String> list = new List<>(true);
+        for (int i = 0; i < 8; i++) {
+            list.add("x" + i);
+        }
+        for (int i = 0; i < 8; i += 2) {
+            list.remove("x" + i);
+        }
+        list.add("y");
+        assertEquals(5, list.size());
+        String[] expected = {"x1", "x3", "x5", "x7", "y"};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+            assertEquals(i, list.indexOf(expected[i]));
+        }
+    }
+
+    /**
+     * Method: Iterating after removals visits the remaining elements in order and skips the holes.
+     */
+    @Test
+    void iteratorSkipsHoles() {
+        List<String> list = new List<>(true);
+        for (int i = 0; i < 6; i++) {
+            list.add("x" + i);
+        }
+        list.remove("x0");
+        list.remove("x3");
+        StringBuilder seen = new StringBuilder();
+        for (String s : list) {
+            seen.append(s).append(' ');
+        }
+        assertEquals("x1 x2 x4 x5 ", seen.toString());
+    }
+
+    /**
+     * Method: set replaces the hash index entry of the element it overwrites.
+     */
+    @Test
+    void setRepointsIndex() {
+        List<String> list = new List<>(true);
+        list.add("a");
+        list.add("b");
+        list.remove("a");
+        list.set(0, "c");
+        assertFalse(list.contains("b"));
+        assertTrue(list.contains("c"));
+        assertEquals(0, list.indexOf("c"));
+    }
+
+    /**
+     * Method: Adding an array skips elements already in the list and repeats within the array.
+     */
+    @Test
+    void addAllSkipsDuplicates() {
+        List<String> list = new List<>(true);
+        list.add("a");
+        list.add("b");
+        list.remove("a");
+        list.addAll(new String[]{"b", "c", "c", "a"});
+        assertEquals(3, list.size());
+        assertEquals("b", list.get(0));
+        assertEquals("c", list.get(1));
+        assertEquals("a", list.get(2));
+        assertEquals(2, list.indexOf("a"));
+    }
+
+    /**
+     * Method: A random mix of operations leaves an indexed list and a plain list holding the same elements.
+     */
+    @Test
+    void indexedListMatchesPlainList() {
+        Random random = new Random(42);
+        List<Integer> indexed = new List<>(true);
+        List<Integer> plain = new List<>();
+        ArrayList<Integer> model = new ArrayList<>();
+        for (int step = 0; step < 20000; step++) {
+            Integer value = random.nextInt(300);
+            int op = random.nextInt(4);
+            if (op < 2) {
+                indexed.add(value);
+                plain.add(value);
+                if (!model.contains(value)) {
+                    model.add(value);
+                }
+            } else if (op == 2) {
+                indexed.remove(value);
+                plain.remove(value);
+                model.remove(value);
+            } else {
+                assertEquals(model.indexOf(value), indexed.indexOf(value), "indexOf " + value);
+                assertEquals(model.contains(value), indexed.contains(value), "contains " + value);
+            }
+            assertEquals(model.size(), indexed.size());
+        }
+        for (int i = 0; i < model.size(); i++) {
+            assertEquals(model.get(i), indexed.get(i));
+            assertEquals(model.get(i), plain.get(i));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.ruclinicgui.clinic.src.util;
+
+import com.example.ruclinicgui.clinic.src.Appointment;
+import com.example.ruclinicgui.clinic.src.Imaging;
+import com.example.ruclinicgui.clinic.src.Person;
+import com.example.ruclinicgui.clinic.src.Profile;
+import com.example.ruclinicgui.clinic.src.Provider;
+import com.example.ruclinicgui.clinic.src.Radiology;
+import com.example.ruclinicgui.clinic.src.Technician;
+import com.example.ruclinicgui.clinic.src.Timeslot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the Snapshot class: writing a snapshot, reading it back onto the roster, and refusing damaged files.
+ * @author Nithya Konduru, Dhyanashri Raman
+ */
+class SnapshotTest {
+    private static final String ROSTER = String.join(System.lineSeparator(),
+            "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01",
+            "D  RACHAEL  LIM  11/30/1975  BRIDGEWATER  PEDIATRICIAN  23",
+            "T  GARY  JOHNSON  11/14/1987  PISCATAWAY  110",
+            "T  BEN  JERRY  9/28/1987  PISCATAWAY  150",
+            "T  FRANK  LIN  6/24/1999  PISCATAWAY  120",
+            "");
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Method: Writes a snapshot of a small clinic to the test directory.
+     *
+     * @param roster       The providers in roster order.
+     * @param appointments The booked appointments.
+     * @return The snapshot file.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    private Path writeSnapshot(Provider[] roster, List<Appointment> appointments) throws IOException {
+        CircularLinkedList technicians = new CircularLinkedList();
+        for (int i = roster.length - 1; i >= 2; i--) {
+            technicians.addTechnician((Technician) roster[i]);
+        }
+        Path path = dir.resolve("providers.txt.snapshot");
+        Snapshot.capture(roster, technicians, technicians.getHead().getNext(), appointments, 7).write(path);
+        return path;
+    }
+
+    /**
+     * Method: Loads the test roster.
+     *
+     * @return The providers in roster order.
+     * @throws IOException if the roster file cannot be written or read.
+     */
+    private Provider[] roster() throws IOException {
+        Path file = dir.resolve("providers.txt");
+        Files.writeString(file, ROSTER);
+        return RosterLoader.load(file).providers();
+    }
+
+    /**
+     * Method: A snapshot read back onto the roster holds the same appointments, rotation and charges.
+     */
+    @Test
+    void roundTripRestoresClinic() throws IOException {
+        Provider[] roster = roster();
+        Person ann = new Person(Profile.of("Ann", "Doe", Date.of(1990, 1, 2)));
+        Person bob = new Person(Profile.of("Bob", "Roe", Date.of(1985, 6, 30)));
+        List<Appointment> appointments = new List<>();
+        appointments.add(new Appointment(Date.of(2026, 11, 17), Timeslot.of(1), ann, roster[0]));
+        appointments.add(new Imaging(Date.of(2026, 11, 18), Timeslot.of(7), bob, roster[3], Radiology.ULTRASOUND));
+        appointments.add(new Appointment(Date.of(2027, 1, 4), Timeslot.of(11), ann, roster[1]));
+        Path path = writeSnapshot(roster, appointments);
+
+        Snapshot snapshot = Snapshot.read(path).onRoster(roster());
+        assertNotNull(snapshot);
+        assertEquals(7, snapshot.journalSegment());
+        assertEquals(appointments.size(), snapshot.size());
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment restored = snapshot.appointment(i);
+            assertEquals(appointments.get(i).toString(), restored.toString());
+            assertEquals(appointments.get(i).getProvider(), restored.getProvider());
+        }
+        assertEquals(Radiology.ULTRASOUND, ((Imaging) snapshot.appointment(1)).getRoom());
+        Technician[] rotation = snapshot.rotation();
+        assertEquals(3, rotation.length);
+        assertSame(snapshot.providers()[2], rotation[0]);
+        assertSame(snapshot.providers()[3], snapshot.next());
+
+        Ledger<Profile> patientCharges = new Ledger<>();
+        Ledger<Provider> providerCredits = new Ledger<>();
+        snapshot.postCharges(patientCharges, providerCredits, new long[]{100, 200, 300, 400, 500});
+        assertEquals(300, patientCharges.amountOf(ann.getProfile()));
+        assertEquals(2, patientCharges.countOf(ann.getProfile()));
+        assertEquals(400, patientCharges.amountOf(bob.getProfile()));
+        assertEquals(400, providerCredits.amountOf(snapshot.providers()[3]));
+    }
+
+    /**
+     * Method: Appointments restored from a snapshot refer to the roster's own provider instances.
+     */
+    @Test
+    void restoredAppointmentsUseRosterProviders() throws IOException {
+        Provider[] roster = roster();
+        List<Appointment> appointments = new List<>();
+        appointments.add(new Imaging(Date.of(2026, 11, 17), Timeslot.of(2),
+                new Person(Profile.of("Ann", "Doe", Date.of(1990, 1, 2))), roster[4], Radiology.XRAY));
+        Path path = writeSnapshot(roster, appointments);
+
+        Provider[] reloaded = roster();
+        Snapshot snapshot = Snapshot.read(path).onRoster(reloaded);
+        assertSame(reloaded[4], snapshot.appointment(0).getProvider());
+        assertSame(reloaded[4], snapshot.rotation()[2]);
+    }
+
+    /**
+     * Method: A snapshot taken with different providers is not moved onto the roster.
+     */
+    @Test
+    void otherRosterIsRefused() throws IOException {
+        Provider[] roster = roster();
+        Path path = writeSnapshot(roster, new List<>());
+        Provider[] other = new Provider[]{roster[1], roster[0], roster[2], roster[3], roster[4]};
+        assertNull(Snapshot.read(path).onRoster(other));
+    }
+
+    /**
+     * Method: A missing snapshot reads as none, and a damaged one is refused rather than half read.
+     */
+    @Test
+    void damagedSnapshotIsRefused() throws IOException {
+        assertNull(Snapshot.read(dir.resolve("missing.snapshot")));
+        Provider[] roster = roster();
+        List<Appointment> appointments = new List<>();
+        appointments.add(new Appointment(Date.of(2026, 11, 17), Timeslot.of(1),
+                new Person(Profile.of("Ann", "Doe", Date.of(1990, 1, 2))), roster[0]));
+        Path path = writeSnapshot(roster, appointments);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> Snapshot.read(path));
+    }
+}